@@ -0,0 +1,178 @@
+package com.projects.artifacts;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.model.Attachment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes screenshots and page sources to allure-results off the test thread.
+ * The test thread only grabs the bytes from the browser, hashes them and links the attachment
+ * to the current Allure test; encoding and file writes go through a bounded queue of writer
+ * threads. A full queue makes the test thread write itself, so nothing is ever dropped.
+ *
+ * Attachments are content-addressed (the file name is the SHA-256 of the captured bytes), so
+ * the same page source or screenshot is written once however many tests fail on it.
+ * -Dartifacts.imageScale (e.g. 0.5) downscales screenshots and -Dartifacts.imageFormat=jpg
+ * recompresses them with -Dartifacts.jpegQuality (default 0.75).
+ */
+public final class ArtifactPipeline {
+
+    private static final Logger log = LoggerFactory.getLogger(ArtifactPipeline.class);
+
+    private static final int WRITERS = Integer.parseInt(System.getProperty("artifacts.writers", "2"));
+    private static final int QUEUE = Integer.parseInt(System.getProperty("artifacts.queue", "64"));
+    private static final double IMAGE_SCALE = Double.parseDouble(System.getProperty("artifacts.imageScale", "1.0"));
+    private static final String IMAGE_FORMAT = System.getProperty("artifacts.imageFormat", "png").toLowerCase();
+    private static final float JPEG_QUALITY = Float.parseFloat(System.getProperty("artifacts.jpegQuality", "0.75"));
+
+    private static final ArtifactPipeline instance = new ArtifactPipeline();
+
+    private final ThreadPoolExecutor writers;
+    private final Set<String> written = ConcurrentHashMap.newKeySet();
+    private final AtomicLong attachments = new AtomicLong();
+    private final AtomicLong duplicates = new AtomicLong();
+    private final AtomicLong bytesWritten = new AtomicLong();
+
+    private ArtifactPipeline() {
+        AtomicInteger threadCount = new AtomicInteger();
+        writers = new ThreadPoolExecutor(WRITERS, WRITERS, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(QUEUE),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "artifact-writer-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    public static ArtifactPipeline get() {
+        return instance;
+    }
+
+    public void screenshot(String name, byte[] png) {
+        boolean recompress = IMAGE_SCALE < 1.0 || IMAGE_FORMAT.equals("jpg");
+        String extension = IMAGE_FORMAT.equals("jpg") ? "jpg" : "png";
+        String type = extension.equals("jpg") ? "image/jpeg" : "image/png";
+        attach(name, type, extension, png, recompress ? ArtifactPipeline::encodeImage : bytes -> bytes);
+    }
+
+    public void pageSource(String name, String html) {
+        attach(name, "text/html", "html", html.getBytes(StandardCharsets.UTF_8), bytes -> bytes);
+    }
+
+    private void attach(String name, String type, String extension, byte[] captured, Encoder encoder) {
+        String source = sha256(captured) + "-attachment." + extension;
+        Allure.getLifecycle().updateTestCase(result ->
+                result.getAttachments().add(new Attachment().setName(name).setType(type).setSource(source)));
+        attachments.incrementAndGet();
+
+        if (!written.add(source)) {
+            duplicates.incrementAndGet();
+            return;
+        }
+        writers.execute(() -> {
+            try {
+                byte[] encoded = encoder.encode(captured);
+                Allure.getLifecycle().writeAttachment(source, new ByteArrayInputStream(encoded));
+                bytesWritten.addAndGet(encoded.length);
+            } catch (Exception e) {
+                log.warn("Could not write attachment '{}': {}", name, e.getMessage());
+            }
+        });
+    }
+
+    /** Waits for queued writes; called once when the run ends. */
+    void drain() {
+        writers.shutdown();
+        try {
+            if (!writers.awaitTermination(60, TimeUnit.SECONDS)) {
+                log.warn("Artifact writers still busy after 60s, some attachments may be missing");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (attachments.get() > 0) {
+            log.info("Failure artifacts: {} attachments, {} written ({} KB), {} duplicates skipped",
+                    attachments.get(), written.size(), bytesWritten.get() / 1024, duplicates.get());
+        }
+    }
+
+    private static byte[] encodeImage(byte[] png) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        if (image == null) {
+            return png;
+        }
+        if (IMAGE_SCALE < 1.0) {
+            int width = Math.max(1, (int) (image.getWidth() * IMAGE_SCALE));
+            int height = Math.max(1, (int) (image.getHeight() * IMAGE_SCALE));
+            BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = scaled.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, width, height, null);
+            graphics.dispose();
+            image = scaled;
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (!IMAGE_FORMAT.equals("jpg")) {
+            ImageIO.write(image, "png", out);
+            return out.toByteArray();
+        }
+        // JPEG has no alpha channel
+        if (image.getType() != BufferedImage.TYPE_INT_RGB) {
+            BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = rgb.createGraphics();
+            graphics.drawImage(image, 0, 0, null);
+            graphics.dispose();
+            image = rgb;
+        }
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(JPEG_QUALITY);
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(stream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("❌ SHA-256 is not available", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Encoder {
+        byte[] encode(byte[] captured) throws IOException;
+    }
+}
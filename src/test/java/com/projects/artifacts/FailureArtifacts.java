@@ -0,0 +1,103 @@
+package com.projects.artifacts;
+
+import com.codeborne.selenide.WebDriverRunner;
+import com.codeborne.selenide.junit5.ScreenShooterExtension;
+import com.codeborne.selenide.logevents.LogEvent;
+import com.codeborne.selenide.logevents.LogEventListener;
+import com.codeborne.selenide.logevents.SelenideLogger;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Screenshot and page source of failures, at most once per test: on the first failed Selenide
+ * step, or when the test fails for another reason (a plain assertion). Files are written by
+ * {@link ArtifactPipeline}.
+ *
+ * With -DasyncArtifacts=false the old synchronous behaviour is kept: AllureSelenide attaches
+ * on every failed step and ScreenShooterExtension saves to the Selenide reports folder.
+ */
+public class FailureArtifacts implements BeforeAllCallback, AfterAllCallback, BeforeEachCallback, AfterTestExecutionCallback {
+
+    private static final Logger log = LoggerFactory.getLogger(FailureArtifacts.class);
+
+    public static final boolean ASYNC = Boolean.parseBoolean(System.getProperty("asyncArtifacts", "true"));
+
+    private static final String LISTENER = "FailureArtifacts";
+    private static final ThreadLocal<Boolean> captured = ThreadLocal.withInitial(() -> false);
+
+    private final ScreenShooterExtension screenShooter = new ScreenShooterExtension();
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        if (!ASYNC) {
+            return;
+        }
+        SelenideLogger.addListener(LISTENER, new Listener());
+        // Closed by JUnit once, after every test in the run has finished
+        context.getRoot().getStore(ExtensionContext.Namespace.GLOBAL)
+                .getOrComputeIfAbsent(ArtifactPipeline.class,
+                        key -> (ExtensionContext.Store.CloseableResource) () -> ArtifactPipeline.get().drain());
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        SelenideLogger.removeListener(LISTENER);
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        if (!ASYNC) {
+            screenShooter.beforeEach(context);
+            return;
+        }
+        captured.set(false);
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        if (!ASYNC) {
+            screenShooter.afterTestExecution(context);
+            return;
+        }
+        if (context.getExecutionException().isPresent()) {
+            capture();
+        }
+    }
+
+    private static void capture() {
+        if (captured.get() || !WebDriverRunner.hasWebDriverStarted()) {
+            return;
+        }
+        captured.set(true);
+        WebDriver driver = WebDriverRunner.getWebDriver();
+        try {
+            if (driver instanceof TakesScreenshot camera) {
+                ArtifactPipeline.get().screenshot("Screenshot", camera.getScreenshotAs(OutputType.BYTES));
+            }
+            ArtifactPipeline.get().pageSource("Page source", driver.getPageSource());
+        } catch (RuntimeException e) {
+            log.warn("Could not capture failure artifacts: {}", e.getMessage());
+        }
+    }
+
+    private static final class Listener implements LogEventListener {
+        @Override
+        public void beforeEvent(LogEvent currentLog) {
+        }
+
+        @Override
+        public void afterEvent(LogEvent currentLog) {
+            if (currentLog.getStatus() == LogEvent.EventStatus.FAIL) {
+                capture();
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.projects.base;
+
+import com.codeborne.selenide.WebDriverRunner;
+import com.projects.pages.CartPage;
+import com.projects.pages.LoginPage;
+import com.projects.perf.AdaptiveTimeouts;
+import com.projects.util.TestDataLoader;
+import com.projects.util.User;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Logged-in session shared by the tests of one class on one worker. The first {@link #enter()}
+ * logs in; later ones only reset app state (empty cart, back on the inventory page). If the
+ * session is gone (other browser, cookie expired or cleared by a logout, app rejects it) it
+ * logs in again. Forgotten when the class finishes.
+ *
+ * <pre>
+ * &#64;RegisterExtension
+ * static final AuthenticatedSession session = AuthenticatedSession.as("standard_user");
+ * </pre>
+ */
+public class AuthenticatedSession implements AfterAllCallback {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthenticatedSession.class);
+
+    private final User user;
+    private final LoginPage loginPage = new LoginPage();
+    private final CartPage cartPage = new CartPage();
+
+    // Browser the session was opened in, per worker thread
+    private final ThreadLocal<WebDriver> loggedInBrowser = new ThreadLocal<>();
+
+    private AuthenticatedSession(User user) {
+        this.user = user;
+    }
+
+    public static AuthenticatedSession as(String userKey) {
+        return new AuthenticatedSession(TestDataLoader.getUser(userKey));
+    }
+
+    /** Leaves the test logged in on the inventory page with an empty cart. */
+    public void enter() {
+        AdaptiveTimeouts.actAs(user.getUsername());
+        if (isSameBrowser() && loginPage.hasSession(user)) {
+            cartPage.clear();
+            if (loginPage.openInventory()) {
+                return;
+            }
+        }
+        if (loggedInBrowser.get() != null) {
+            log.info("Session of '{}' is gone, logging in again", user.getUsername());
+        }
+        loginPage.loginFast(user);
+        loggedInBrowser.set(Drivers.unwrap(WebDriverRunner.getWebDriver()));
+    }
+
+    private boolean isSameBrowser() {
+        WebDriver browser = loggedInBrowser.get();
+        return browser != null && WebDriverRunner.hasWebDriverStarted()
+                && browser == Drivers.unwrap(WebDriverRunner.getWebDriver());
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        loggedInBrowser.remove();
+    }
+}
@@ -1,15 +1,54 @@
 package com.projects.base;
 
 import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.WebDriverRunner;
 import com.codeborne.selenide.logevents.SelenideLogger;
+import com.projects.artifacts.FailureArtifacts;
+import com.projects.pages.DomRecorder;
+import com.projects.pages.InventorySnapshot;
+import com.projects.perf.AdaptiveTimeouts;
+import com.projects.perf.CommandCounter;
+import com.projects.perf.FrontEndTimings;
+import com.projects.perf.RoundTripBudget;
+import com.projects.perf.StepTimings;
+import com.projects.server.StandInServer;
 import io.qameta.allure.selenide.AllureSelenide;
 import org.junit.jupiter.api.*;
-import org.openqa.selenium.chrome.ChromeOptions;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+@ExtendWith({StepTimings.class, FrontEndTimings.class, FailureArtifacts.class})
 public class  BaseTest {
 
+    private static final Logger log = LoggerFactory.getLogger(BaseTest.class);
+
+    private static final Object CONFIG_LOCK = new Object();
+    private static boolean configured;
+
     @BeforeAll
     public static void setUp() {
+        // Configuration is global, so only the first class to start writes it
+        synchronized (CONFIG_LOCK) {
+            if (!configured) {
+                configure();
+                configured = true;
+            }
+        }
+
+        // Register Allure listener (steps, plus screenshots/page source on failures unless
+        // FailureArtifacts writes them asynchronously).
+        // Selenide listeners are per thread, so every worker registers its own.
+        SelenideLogger.addListener("AllureSelenide", new AllureSelenide()
+                .screenshots(!FailureArtifacts.ASYNC)
+                .savePageSource(!FailureArtifacts.ASYNC));
+        // -DdomSnapshots=record: keep the pages the steps lead to, for offline page-object replay
+        if (DomRecorder.isEnabled()) {
+            SelenideLogger.addListener("DomRecorder", new DomRecorder());
+        }
+    }
+
+    private static void configure() {
         // Configurable via -D arguments or CI env vars
         Configuration.baseUrl = System.getProperty("baseUrl", "https://www.saucedemo.com");
         Configuration.browser = System.getProperty("browser", "chrome");
@@ -17,28 +56,92 @@ public class  BaseTest {
         Configuration.browserSize = System.getProperty("browserSize", "1366x768");
         Configuration.timeout = Long.parseLong(System.getProperty("timeout", "5000"));
 
-        // Add safe defaults for Docker/GitHub Actions
-        ChromeOptions options = new ChromeOptions();
-        options.addArguments("--no-sandbox");
-        options.addArguments("--disable-dev-shm-usage");
-        options.addArguments("--disable-gpu");
-        options.addArguments("--disable-software-rasterizer");
-        options.addArguments("--remote-debugging-port=9222");
+        // Failure screenshots come from FailureArtifacts, not from every Selenide error
+        if (FailureArtifacts.ASYNC) {
+            Configuration.screenshots = false;
+            Configuration.savePageSource = false;
+        }
 
-        if (Configuration.headless) {
-            options.addArguments("--headless=new");
+        // -DstandIn=true: run against the embedded offline copy of the app instead of baseUrl
+        if (Boolean.parseBoolean(System.getProperty("standIn", "false"))) {
+            Configuration.baseUrl = StandInServer.start().baseUrl();
         }
 
-        Configuration.browserCapabilities = options;
+        // Chrome is created per thread by our provider (Docker-safe options, own debugging port)
+        if ("chrome".equalsIgnoreCase(Configuration.browser)) {
+            Configuration.browser = ChromeDriverProvider.class.getName();
+        }
+    }
 
-        // Register Allure listener (attaches screenshots/page source on failures)
-        SelenideLogger.addListener("AllureSelenide", new AllureSelenide()
-                .screenshots(true)
-                .savePageSource(true));
+    @BeforeEach
+    public void acquireBrowser() {
+        // -DbrowserPool=N: borrow a warm browser instead of launching one per thread
+        if (BrowserPool.isEnabled()) {
+            WebDriverRunner.setWebDriver(BrowserPool.acquire());
+        }
+        // -DcontextPerTest=true: a fresh incognito-style context instead of a fresh browser
+        if (BrowserContexts.isEnabled()) {
+            BrowserContexts.open(WebDriverRunner.getAndCheckWebDriver());
+        }
+        // A snapshot left by the previous test on this thread describes another page
+        InventorySnapshot.invalidate();
+        // Nobody is logged in until the test says so
+        AdaptiveTimeouts.actAs(null);
+        NetworkFilter filter = currentNetworkFilter();
+        if (filter != null) {
+            filter.resetCounters();
+        }
+        CommandCounter commands = currentCommandCounter();
+        if (commands != null) {
+            commands.reset();
+        }
+    }
+
+    @AfterEach
+    public void releaseBrowser(TestInfo testInfo) {
+        NetworkFilter filter = currentNetworkFilter();
+        if (filter != null) {
+            log.info("Network filter for '{}': {}", testInfo.getDisplayName(), filter);
+        }
+        CommandCounter commands = currentCommandCounter();
+        long roundTrips = commands != null ? commands.total() : 0;
+        if (commands != null) {
+            log.info("WebDriver commands for '{}': {}", testInfo.getDisplayName(), commands);
+        }
+        if (BrowserContexts.isEnabled() && WebDriverRunner.hasWebDriverStarted()) {
+            BrowserContexts.close(WebDriverRunner.getWebDriver());
+        }
+        if (BrowserPool.isEnabled() && WebDriverRunner.hasWebDriverStarted()) {
+            BrowserPool.release(WebDriverRunner.getWebDriver());
+        }
+
+        RoundTripBudget budget = roundTripBudget(testInfo);
+        if (budget != null && roundTrips > budget.value()) {
+            Assertions.fail("Test used " + roundTrips + " WebDriver round trips, budget is " + budget.value());
+        }
+    }
+
+    private static RoundTripBudget roundTripBudget(TestInfo testInfo) {
+        return testInfo.getTestMethod()
+                .map(method -> method.getAnnotation(RoundTripBudget.class))
+                .or(() -> testInfo.getTestClass().map(type -> type.getAnnotation(RoundTripBudget.class)))
+                .orElse(null);
+    }
+
+    private static CommandCounter currentCommandCounter() {
+        return WebDriverRunner.hasWebDriverStarted() ? CommandCounter.of(WebDriverRunner.getWebDriver()) : null;
+    }
+
+    private static NetworkFilter currentNetworkFilter() {
+        if (!NetworkFilter.isEnabled() || !WebDriverRunner.hasWebDriverStarted()) {
+            return null;
+        }
+        return NetworkFilter.of(WebDriverRunner.getWebDriver());
     }
 
     @AfterAll
     public static void tearDown() {
         SelenideLogger.removeListener("AllureSelenide");
+        SelenideLogger.removeListener("DomRecorder");
     }
 }
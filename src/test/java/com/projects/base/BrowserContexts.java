@@ -0,0 +1,102 @@
+package com.projects.base;
+
+import com.codeborne.selenide.Configuration;
+import com.projects.perf.FrontEndTimings;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * -DcontextPerTest=true gives every test its own incognito-style browser context inside the
+ * thread's Chrome: fresh cookies, storage and cache, created and disposed through DevTools
+ * (Target.createBrowserContext / disposeBrowserContext) in milliseconds instead of a browser
+ * start. The browser's original window stays open on about:blank between tests.
+ *
+ * Only the requests of the original window go through {@link NetworkFilter} and
+ * {@link ResponseCache}'s Fetch interception, so request blocking and cached assets do not
+ * apply inside test contexts. Scripts added per window, like the
+ * {@link FrontEndTimings} observer, are installed again in every new context window.
+ */
+public final class BrowserContexts {
+
+    private static final Logger log = LoggerFactory.getLogger(BrowserContexts.class);
+
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("contextPerTest", "false"));
+
+    // One browser per thread, so one open context per thread
+    private static final ThreadLocal<Context> current = new ThreadLocal<>();
+
+    private BrowserContexts() {
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /** Opens a fresh context with one window and switches the driver to it. */
+    public static void open(WebDriver driver) {
+        if (!(Drivers.unwrap(driver) instanceof HasCdp cdp)) {
+            throw new IllegalStateException("❌ -DcontextPerTest needs a Chromium browser, got "
+                    + Drivers.unwrap(driver).getClass().getSimpleName());
+        }
+        close(driver);
+
+        String originalWindow = driver.getWindowHandle();
+        Set<String> windowsBefore = new HashSet<>(driver.getWindowHandles());
+        String contextId = (String) cdp.executeCdpCommand("Target.createBrowserContext", Map.of())
+                .get("browserContextId");
+        String[] size = Configuration.browserSize.split("x");
+        String targetId = (String) cdp.executeCdpCommand("Target.createTarget", Map.of(
+                "url", "about:blank",
+                "browserContextId", contextId,
+                "width", Integer.parseInt(size[0]),
+                "height", Integer.parseInt(size[1]))).get("targetId");
+        current.set(new Context(contextId, originalWindow));
+
+        // ChromeDriver names windows after their target id; look the window up if that ever changes
+        if (driver.getWindowHandles().contains(targetId)) {
+            driver.switchTo().window(targetId);
+        } else {
+            Set<String> windowsAfter = new HashSet<>(driver.getWindowHandles());
+            windowsAfter.removeAll(windowsBefore);
+            if (windowsAfter.size() != 1) {
+                close(driver);
+                throw new IllegalStateException("❌ Could not find the window of the new browser context");
+            }
+            driver.switchTo().window(windowsAfter.iterator().next());
+        }
+        // Page.addScriptToEvaluateOnNewDocument applies to one target, and this is a new one
+        FrontEndTimings.install(Drivers.unwrap(driver));
+    }
+
+    /** Switches back to the original window and disposes the thread's context with everything in it. */
+    public static void close(WebDriver driver) {
+        Context context = current.get();
+        if (context == null) {
+            return;
+        }
+        current.remove();
+        try {
+            driver.switchTo().window(context.originalWindow);
+            ((HasCdp) Drivers.unwrap(driver)).executeCdpCommand("Target.disposeBrowserContext",
+                    Map.of("browserContextId", context.id));
+        } catch (RuntimeException e) {
+            log.warn("Could not dispose browser context {}: {}", context.id, e.getMessage());
+        }
+    }
+
+    private static final class Context {
+        final String id;
+        final String originalWindow;
+
+        Context(String id, String originalWindow) {
+            this.id = id;
+            this.originalWindow = originalWindow;
+        }
+    }
+}
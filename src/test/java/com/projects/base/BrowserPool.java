@@ -0,0 +1,159 @@
+package com.projects.base;
+
+import com.codeborne.selenide.Configuration;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps up to -DbrowserPool=N warm Chrome instances alive for the whole JVM.
+ * A driver is reset (cookies, storage, about:blank) when it comes back and is
+ * health-checked before it is handed out again; broken drivers are quit and replaced.
+ * Pooled browsers are always Chrome from {@link ChromeDriverProvider}; with another
+ * -Dbrowser the pool refuses to start.
+ */
+public final class BrowserPool {
+
+    private static final Logger log = LoggerFactory.getLogger(BrowserPool.class);
+
+    private static final int SIZE = Integer.parseInt(System.getProperty("browserPool", "0"));
+    private static final long ACQUIRE_TIMEOUT_SECONDS = 120;
+
+    private static final BlockingQueue<WebDriver> idle = new LinkedBlockingQueue<>();
+    private static final Set<WebDriver> all = ConcurrentHashMap.newKeySet();
+    // Slots taken by live browsers and by browsers still starting
+    private static final AtomicInteger reserved = new AtomicInteger();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(BrowserPool::shutdown, "browser-pool-shutdown"));
+    }
+
+    private BrowserPool() {
+    }
+
+    public static boolean isEnabled() {
+        return SIZE > 0;
+    }
+
+    public static WebDriver acquire() {
+        if (!"chrome".equalsIgnoreCase(Configuration.browser)
+                && !ChromeDriverProvider.class.getName().equals(Configuration.browser)) {
+            throw new IllegalStateException("❌ -DbrowserPool only supports Chrome, browser is " + Configuration.browser);
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(ACQUIRE_TIMEOUT_SECONDS);
+        try {
+            while (true) {
+                WebDriver driver = idle.poll();
+                if (driver == null) {
+                    driver = createIfRoom();
+                }
+                if (driver == null) {
+                    // Short waits so a slot freed by an eviction can be refilled
+                    driver = idle.poll(1, TimeUnit.SECONDS);
+                }
+                if (driver == null) {
+                    if (System.nanoTime() > deadline) {
+                        throw new IllegalStateException("❌ No pooled browser became free within "
+                                + ACQUIRE_TIMEOUT_SECONDS + "s (pool size " + SIZE + ")");
+                    }
+                    continue;
+                }
+                if (isHealthy(driver)) {
+                    return driver;
+                }
+                evict(driver);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("❌ Interrupted while waiting for a pooled browser", e);
+        }
+    }
+
+    public static void release(WebDriver driver) {
+        if (driver == null || !all.contains(driver)) {
+            return;
+        }
+        try {
+            reset(driver);
+            idle.offer(driver);
+        } catch (RuntimeException e) {
+            log.warn("Pooled browser failed to reset, evicting it: {}", e.getMessage());
+            evict(driver);
+        }
+    }
+
+    // Only the slot is claimed atomically; browsers start in parallel outside any lock
+    private static WebDriver createIfRoom() {
+        int taken;
+        do {
+            taken = reserved.get();
+            if (taken >= SIZE) {
+                return null;
+            }
+        } while (!reserved.compareAndSet(taken, taken + 1));
+
+        WebDriver driver = null;
+        try {
+            driver = new ChromeDriverProvider().createDriver(new ChromeOptions());
+            String[] size = Configuration.browserSize.split("x");
+            driver.manage().window().setSize(new Dimension(Integer.parseInt(size[0]), Integer.parseInt(size[1])));
+            all.add(driver);
+            log.info("Started pooled browser {}/{}", all.size(), SIZE);
+            return driver;
+        } catch (RuntimeException e) {
+            if (driver != null) {
+                quietlyQuit(driver);
+            }
+            reserved.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private static void reset(WebDriver driver) {
+        driver.manage().deleteAllCookies();
+        ((JavascriptExecutor) driver).executeScript(
+                "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+        driver.get("about:blank");
+    }
+
+    private static boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Pooled browser is not responding, evicting it: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private static void evict(WebDriver driver) {
+        if (all.remove(driver)) {
+            reserved.decrementAndGet();
+        }
+        quietlyQuit(driver);
+    }
+
+    private static void shutdown() {
+        all.forEach(BrowserPool::quietlyQuit);
+        all.clear();
+        idle.clear();
+    }
+
+    private static void quietlyQuit(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (RuntimeException ignored) {
+            // already dead
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.projects.base;
+
+import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.WebDriverProvider;
+import com.projects.perf.CommandCounter;
+import com.projects.perf.FrontEndTimings;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the Chrome driver for the current thread. Selenide keeps one driver per thread,
+ * so every parallel worker ends up with its own browser built here.
+ */
+public class ChromeDriverProvider implements WebDriverProvider {
+
+    // Each Chrome needs its own DevTools port, the first one keeps the old 9222
+    private static final AtomicInteger DEBUGGING_PORT = new AtomicInteger(9222);
+
+    @Override
+    public WebDriver createDriver(Capabilities capabilities) {
+        ChromeDriver driver = new ChromeDriver(chromeOptions(capabilities));
+        NetworkFilter.install(driver);
+        ResponseCache.install(driver);
+        FrontEndTimings.install(driver);
+        return CommandCounter.install(driver);
+    }
+
+    static ChromeOptions chromeOptions(Capabilities capabilities) {
+        // Add safe defaults for Docker/GitHub Actions
+        ChromeOptions options = new ChromeOptions().merge(capabilities);
+        options.addArguments("--no-sandbox");
+        options.addArguments("--disable-dev-shm-usage");
+        options.addArguments("--disable-gpu");
+        options.addArguments("--disable-software-rasterizer");
+        options.addArguments("--remote-debugging-port=" + DEBUGGING_PORT.getAndIncrement());
+
+        if (Configuration.headless) {
+            options.addArguments("--headless=new");
+        }
+        return options;
+    }
+}
@@ -0,0 +1,18 @@
+package com.projects.base;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+
+public final class Drivers {
+
+    private Drivers() {
+    }
+
+    /** Strips decorators (ours and Selenide's) down to the real browser driver. */
+    public static WebDriver unwrap(WebDriver driver) {
+        while (driver instanceof WrapsDriver wrapper) {
+            driver = wrapper.getWrappedDriver();
+        }
+        return driver;
+    }
+}
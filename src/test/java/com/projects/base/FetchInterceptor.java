@@ -0,0 +1,87 @@
+package com.projects.base;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.json.Json;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * The DevTools Fetch domain of one browser, shared by everything that intercepts requests
+ * (NetworkFilter, ResponseCache). Fetch.enable replaces the previous patterns and every
+ * listener sees every paused request, so the patterns are merged here and each paused request
+ * is offered to the handlers in registration order until one answers it. Requests nobody
+ * answers are continued unchanged.
+ */
+final class FetchInterceptor {
+
+    /** Answers a paused request (fulfill, fail, continue...) and returns true, or returns false to pass. */
+    @FunctionalInterface
+    interface Handler {
+        boolean onRequestPaused(Map<String, Object> event);
+    }
+
+    // Keyed by the driver: the interceptor holds the DevTools, so keying by it would never let the entry go
+    private static final Map<WebDriver, FetchInterceptor> interceptors = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final DevTools devTools;
+    private final List<Map<String, Object>> patterns = new ArrayList<>();
+    private final List<Handler> handlers = new ArrayList<>();
+
+    private FetchInterceptor(DevTools devTools) {
+        this.devTools = devTools;
+    }
+
+    /** The interceptor of the (undecorated) driver, which owns the given DevTools. */
+    static FetchInterceptor of(WebDriver driver, DevTools devTools) {
+        return interceptors.computeIfAbsent(driver, key -> {
+            FetchInterceptor interceptor = new FetchInterceptor(devTools);
+            devTools.addListener(new Event<>("Fetch.requestPaused", input -> input.<Map<String, Object>>read(Json.MAP_TYPE)),
+                    interceptor::onRequestPaused);
+            return interceptor;
+        });
+    }
+
+    synchronized void add(List<Map<String, Object>> handlerPatterns, Handler handler) {
+        patterns.addAll(handlerPatterns);
+        handlers.add(handler);
+        devTools.send(new Command<>("Fetch.enable", Map.of("patterns", List.copyOf(patterns))));
+    }
+
+    void send(String method, Map<String, Object> params) {
+        devTools.send(new Command<>(method, params));
+    }
+
+    <T> T send(Command<T> command) {
+        return devTools.send(command);
+    }
+
+    private void onRequestPaused(Map<String, Object> event) {
+        List<Handler> current;
+        synchronized (this) {
+            current = List.copyOf(handlers);
+        }
+        for (Handler handler : current) {
+            if (handler.onRequestPaused(event)) {
+                return;
+            }
+        }
+        send("Fetch.continueRequest", Map.of("requestId", event.get("requestId")));
+    }
+
+    /** Whether the paused request is at the response stage (the response headers are in). */
+    static boolean isResponse(Map<String, Object> event) {
+        return event.containsKey("responseStatusCode") || event.containsKey("responseErrorReason");
+    }
+
+    @SuppressWarnings("unchecked")
+    static Map<String, Object> request(Map<String, Object> event) {
+        return (Map<String, Object>) event.get("request");
+    }
+}
@@ -0,0 +1,161 @@
+package com.projects.base;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Blocks requests the tests never look at (images, fonts, trackers...) through DevTools Fetch
+ * interception. Configured with comma-separated system properties:
+ * <ul>
+ *     <li>-DblockUrls: URL patterns with * and ? wildcards, e.g. *.png,*google-analytics*</li>
+ *     <li>-DblockTypes: DevTools resource types, e.g. Image,Font,Media</li>
+ *     <li>-DallowUrls: URL patterns that are let through even if they match the above</li>
+ * </ul>
+ * Only matching requests are paused, everything else goes straight to the network.
+ * A blocked request is never sent, so its size is unknown; the counters report how many
+ * requests were blocked and how many bytes the remaining traffic actually used.
+ */
+public final class NetworkFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(NetworkFilter.class);
+
+    private static final List<String> BLOCK_URLS = property("blockUrls");
+    private static final List<String> BLOCK_TYPES = property("blockTypes");
+    private static final List<Pattern> ALLOW_URLS = property("allowUrls").stream()
+            .map(NetworkFilter::wildcardToRegex)
+            .collect(Collectors.toList());
+
+    private static final Map<WebDriver, NetworkFilter> filters = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final DevTools devTools;
+    private final List<Pattern> blockUrls = BLOCK_URLS.stream()
+            .map(NetworkFilter::wildcardToRegex)
+            .collect(Collectors.toList());
+    private final AtomicLong blockedRequests = new AtomicLong();
+    private final AtomicLong finishedRequests = new AtomicLong();
+    private final AtomicLong transferredBytes = new AtomicLong();
+
+    private NetworkFilter(DevTools devTools) {
+        this.devTools = devTools;
+    }
+
+    public static boolean isEnabled() {
+        return !BLOCK_URLS.isEmpty() || !BLOCK_TYPES.isEmpty();
+    }
+
+    /** Called once per driver right after it is created. */
+    static void install(WebDriver driver) {
+        if (!isEnabled() || !(driver instanceof HasDevTools hasDevTools)) {
+            return;
+        }
+        Optional<DevTools> maybeDevTools = hasDevTools.maybeGetDevTools();
+        if (maybeDevTools.isEmpty()) {
+            log.warn("DevTools is not available for this browser, requests will not be filtered");
+            return;
+        }
+        DevTools devTools = maybeDevTools.get();
+        devTools.createSessionIfThereIsNotOne();
+
+        NetworkFilter filter = new NetworkFilter(devTools);
+        filter.start(FetchInterceptor.of(driver, devTools));
+        filters.put(driver, filter);
+    }
+
+    /** The filter of the given (possibly decorated) driver, or null when filtering is off. */
+    public static NetworkFilter of(WebDriver driver) {
+        return filters.get(Drivers.unwrap(driver));
+    }
+
+    private void start(FetchInterceptor fetch) {
+        List<Map<String, Object>> patterns = new ArrayList<>();
+        BLOCK_URLS.forEach(url -> patterns.add(Map.of("urlPattern", url, "requestStage", "Request")));
+        BLOCK_TYPES.forEach(type -> patterns.add(Map.of("urlPattern", "*", "resourceType", type, "requestStage", "Request")));
+
+        devTools.addListener(new Event<>("Network.loadingFinished", input -> input.<Map<String, Object>>read(Json.MAP_TYPE)),
+                this::onLoadingFinished);
+
+        devTools.send(new Command<>("Network.enable", Map.of()));
+        fetch.add(patterns, this::onRequestPaused);
+    }
+
+    // Other interceptors share the Fetch domain, so requests outside our patterns come by too
+    private boolean onRequestPaused(Map<String, Object> event) {
+        if (FetchInterceptor.isResponse(event)) {
+            return false;
+        }
+        String url = (String) FetchInterceptor.request(event).get("url");
+        boolean blocked = BLOCK_TYPES.contains((String) event.get("resourceType"))
+                || blockUrls.stream().anyMatch(pattern -> pattern.matcher(url).matches());
+        if (!blocked || ALLOW_URLS.stream().anyMatch(allowed -> allowed.matcher(url).matches())) {
+            return false;
+        }
+        blockedRequests.incrementAndGet();
+        devTools.send(new Command<>("Fetch.failRequest", Map.of("requestId", event.get("requestId"), "errorReason", "BlockedByClient")));
+        return true;
+    }
+
+    private void onLoadingFinished(Map<String, Object> event) {
+        finishedRequests.incrementAndGet();
+        transferredBytes.addAndGet(((Number) event.get("encodedDataLength")).longValue());
+    }
+
+    public long blockedRequests() {
+        return blockedRequests.get();
+    }
+
+    public long finishedRequests() {
+        return finishedRequests.get();
+    }
+
+    public long transferredBytes() {
+        return transferredBytes.get();
+    }
+
+    public void resetCounters() {
+        blockedRequests.set(0);
+        finishedRequests.set(0);
+        transferredBytes.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d requests blocked, %d requests loaded (%d KB)",
+                blockedRequests(), finishedRequests(), transferredBytes() / 1024);
+    }
+
+    private static List<String> property(String name) {
+        return Arrays.stream(System.getProperty(name, "").split(","))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    private static Pattern wildcardToRegex(String wildcard) {
+        StringBuilder regex = new StringBuilder();
+        for (char c : wildcard.toCharArray()) {
+            switch (c) {
+                case '*' -> regex.append(".*");
+                case '?' -> regex.append('.');
+                default -> regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return Pattern.compile(regex.toString());
+    }
+}
@@ -0,0 +1,296 @@
+package com.projects.base;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Serves static assets (scripts, stylesheets, images, fonts) from disk instead of the network,
+ * through DevTools Fetch interception. Enabled with -DresponseCache=true:
+ * <ul>
+ *     <li>a GET whose URL has a fresh entry is fulfilled from the cache without leaving the browser</li>
+ *     <li>any other GET of those types goes to the network, and a 200 response is recorded</li>
+ * </ul>
+ * Entries are keyed by URL and point to a body file named by the SHA-256 of its content, so a
+ * bundle shared by several URLs is stored once. DevTools wants bodies Base64-encoded, so each
+ * body is encoded once and kept in memory up to -DresponseCache.memoryMb (default 64) of encoded
+ * text, dropping the least recently served first. Documents and XHR/fetch calls are never
+ * cached, so the application code and its server state are still exercised for real.
+ *
+ * Freshness: an entry older than -DresponseCache.maxAgeHours (default 24) is refetched, and
+ * responses with Cache-Control no-store are not recorded. Other options:
+ * -DresponseCache.dir (default response-cache), -DresponseCache.types (DevTools resource
+ * types, default Script,Stylesheet,Image,Font).
+ */
+public final class ResponseCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ResponseCache.class);
+    private static final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("responseCache", "false"));
+    private static final Path DIR = Paths.get(System.getProperty("responseCache.dir", "response-cache"));
+    private static final Path INDEX = DIR.resolve("index.json");
+    private static final Duration MAX_AGE = Duration.ofHours(Long.parseLong(System.getProperty("responseCache.maxAgeHours", "24")));
+    private static final List<String> TYPES = Arrays.stream(System.getProperty("responseCache.types", "Script,Stylesheet,Image,Font").split(","))
+            .map(String::trim)
+            .filter(type -> !type.isEmpty())
+            .collect(Collectors.toList());
+    // Describe the recorded encoding and length, not the decoded body we serve
+    private static final Set<String> DROPPED_HEADERS = Set.of("content-encoding", "content-length", "transfer-encoding");
+
+    private static final Map<String, Entry> entries = load();
+    // Encoded text is ASCII, so one char is one byte of the budget
+    private static final long MEMORY_BUDGET = Long.parseLong(System.getProperty("responseCache.memoryMb", "64")) * 1024 * 1024;
+    private static final LinkedHashMap<String, String> encodedBodies = new LinkedHashMap<>(16, 0.75f, true);
+    private static long encodedChars;
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+    private static final AtomicLong recorded = new AtomicLong();
+
+    private final FetchInterceptor fetch;
+
+    private ResponseCache(FetchInterceptor fetch) {
+        this.fetch = fetch;
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /** Called once per driver right after it is created. */
+    static void install(WebDriver driver) {
+        if (!ENABLED || !(driver instanceof HasDevTools hasDevTools)) {
+            return;
+        }
+        Optional<DevTools> maybeDevTools = hasDevTools.maybeGetDevTools();
+        if (maybeDevTools.isEmpty()) {
+            log.warn("DevTools is not available for this browser, responses will not be cached");
+            return;
+        }
+        DevTools devTools = maybeDevTools.get();
+        devTools.createSessionIfThereIsNotOne();
+
+        List<Map<String, Object>> patterns = new ArrayList<>();
+        for (String type : TYPES) {
+            patterns.add(Map.of("urlPattern", "*", "resourceType", type, "requestStage", "Request"));
+            patterns.add(Map.of("urlPattern", "*", "resourceType", type, "requestStage", "Response"));
+        }
+        FetchInterceptor fetch = FetchInterceptor.of(driver, devTools);
+        fetch.add(patterns, new ResponseCache(fetch)::onRequestPaused);
+    }
+
+    private boolean onRequestPaused(Map<String, Object> event) {
+        Map<String, Object> request = FetchInterceptor.request(event);
+        if (!TYPES.contains((String) event.get("resourceType")) || !"GET".equals(request.get("method"))) {
+            return false;
+        }
+        String url = (String) request.get("url");
+        if (FetchInterceptor.isResponse(event)) {
+            store(url, event);
+            return false;
+        }
+        Entry entry = entries.get(url);
+        String body = entry != null && entry.isFresh() ? encodedBody(entry.sha256) : null;
+        if (body == null) {
+            misses.incrementAndGet();
+            return false;
+        }
+        hits.incrementAndGet();
+        fetch.send("Fetch.fulfillRequest", Map.of(
+                "requestId", event.get("requestId"),
+                "responseCode", entry.status,
+                "responseHeaders", entry.headers,
+                "body", body));
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void store(String url, Map<String, Object> event) {
+        Object status = event.get("responseStatusCode");
+        if (!(status instanceof Number code) || code.intValue() != 200) {
+            return;
+        }
+        List<Map<String, Object>> headers = (List<Map<String, Object>>) event.getOrDefault("responseHeaders", List.of());
+        if (headers.stream().anyMatch(header -> "cache-control".equalsIgnoreCase((String) header.get("name"))
+                && ((String) header.get("value")).toLowerCase(Locale.ROOT).contains("no-store"))) {
+            return;
+        }
+        try {
+            Map<String, Object> response = fetch.send(new Command<>("Fetch.getResponseBody",
+                    Map.of("requestId", event.get("requestId")), input -> input.<Map<String, Object>>read(Json.MAP_TYPE)));
+            String body = (String) response.get("body");
+            byte[] bytes = Boolean.TRUE.equals(response.get("base64Encoded"))
+                    ? Base64.getDecoder().decode(body)
+                    : body.getBytes(StandardCharsets.UTF_8);
+            String sha256 = sha256(bytes);
+            writeBody(sha256, bytes);
+            List<Map<String, String>> kept = headers.stream()
+                    .filter(header -> !DROPPED_HEADERS.contains(((String) header.get("name")).toLowerCase(Locale.ROOT)))
+                    .map(header -> Map.of("name", (String) header.get("name"), "value", (String) header.get("value")))
+                    .collect(Collectors.toList());
+            entries.put(url, new Entry(sha256, 200, kept, System.currentTimeMillis()));
+            recorded.incrementAndGet();
+        } catch (IOException | RuntimeException e) {
+            // The response still reaches the page, it just isn't cached
+            log.debug("Could not record {}: {}", url, e.getMessage());
+        }
+    }
+
+    // Through a temp file, so a parallel thread serving the same body never maps a half-written one
+    private static void writeBody(String sha256, byte[] bytes) throws IOException {
+        Path file = DIR.resolve(sha256);
+        if (Files.exists(file)) {
+            return;
+        }
+        Files.createDirectories(DIR);
+        Path temp = Files.createTempFile(DIR, sha256, ".tmp");
+        try {
+            Files.write(temp, bytes);
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // Another thread stored the same content first
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // Encoded from the mapped file, so only the Base64 text (not the raw bytes too) lands on the heap
+    private static String encodedBody(String sha256) {
+        synchronized (encodedBodies) {
+            String cached = encodedBodies.get(sha256);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        String body;
+        try (FileChannel channel = FileChannel.open(DIR.resolve(sha256), StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            ByteBuffer encoded = Base64.getEncoder().encode(mapped);
+            body = StandardCharsets.ISO_8859_1.decode(encoded).toString();
+        } catch (IOException e) {
+            log.debug("Cached body {} is unreadable: {}", sha256, e.getMessage());
+            return null;
+        }
+        keep(sha256, body);
+        return body;
+    }
+
+    private static void keep(String sha256, String body) {
+        synchronized (encodedBodies) {
+            String previous = encodedBodies.put(sha256, body);
+            encodedChars += body.length() - (previous != null ? previous.length() : 0);
+            // Least recently served first; a body bigger than the whole budget is not kept at all
+            Iterator<Map.Entry<String, String>> eldest = encodedBodies.entrySet().iterator();
+            while (encodedChars > MEMORY_BUDGET && eldest.hasNext()) {
+                encodedChars -= eldest.next().getValue().length();
+                eldest.remove();
+            }
+        }
+    }
+
+    private static Map<String, Entry> load() {
+        Map<String, Entry> loaded = new ConcurrentHashMap<>();
+        if (!ENABLED) {
+            return loaded;
+        }
+        if (Files.exists(INDEX)) {
+            try {
+                loaded.putAll(mapper.readValue(INDEX.toFile(), new TypeReference<Map<String, Entry>>() {
+                }));
+                log.info("Loaded {} cached responses from {}", loaded.size(), DIR.toAbsolutePath());
+            } catch (IOException e) {
+                log.warn("Ignoring unreadable response cache index {}: {}", INDEX, e.getMessage());
+            }
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(ResponseCache::save, "response-cache-writer"));
+        return loaded;
+    }
+
+    private static void save() {
+        log.info("Response cache: {} hits, {} misses, {} responses recorded", hits.get(), misses.get(), recorded.get());
+        if (recorded.get() == 0) {
+            return;
+        }
+        try {
+            Files.createDirectories(DIR);
+            mapper.writeValue(INDEX.toFile(), new TreeMap<>(entries));
+        } catch (IOException e) {
+            log.warn("Could not write response cache index {}: {}", INDEX, e.getMessage());
+        }
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("❌ SHA-256 is not available", e);
+        }
+    }
+
+    /** Index entry: which body to answer with, and the recorded status and headers. */
+    public static final class Entry {
+        private final String sha256;
+        private final int status;
+        private final List<Map<String, String>> headers;
+        private final long storedAt;
+
+        @JsonCreator
+        public Entry(@JsonProperty("sha256") String sha256,
+                     @JsonProperty("status") int status,
+                     @JsonProperty("headers") List<Map<String, String>> headers,
+                     @JsonProperty("storedAt") long storedAt) {
+            this.sha256 = sha256;
+            this.status = status;
+            this.headers = headers;
+            this.storedAt = storedAt;
+        }
+
+        public String getSha256() { return sha256; }
+        public int getStatus() { return status; }
+        public List<Map<String, String>> getHeaders() { return headers; }
+        public long getStoredAt() { return storedAt; }
+
+        boolean isFresh() {
+            return System.currentTimeMillis() - storedAt < MAX_AGE.toMillis();
+        }
+    }
+}
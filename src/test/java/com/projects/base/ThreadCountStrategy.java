@@ -0,0 +1,34 @@
+package com.projects.base;
+
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfiguration;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfigurationStrategy;
+
+/**
+ * Sizes the JUnit worker pool from -Dthreads (default 1, i.e. serial).
+ * The pool is never allowed to grow past that number because every worker owns a browser.
+ */
+public class ThreadCountStrategy implements ParallelExecutionConfigurationStrategy {
+
+    @Override
+    public ParallelExecutionConfiguration createConfiguration(ConfigurationParameters parameters) {
+        int threads = Math.max(1, Integer.parseInt(System.getProperty("threads", "1")));
+
+        return new ParallelExecutionConfiguration() {
+            @Override
+            public int getParallelism() { return threads; }
+
+            @Override
+            public int getMinimumRunnable() { return threads; }
+
+            @Override
+            public int getMaxPoolSize() { return threads; }
+
+            @Override
+            public int getCorePoolSize() { return threads; }
+
+            @Override
+            public int getKeepAliveSeconds() { return 30; }
+        };
+    }
+}
@@ -0,0 +1,63 @@
+package com.projects.data;
+
+import com.projects.util.TestDataLoader;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.support.AnnotationConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Builds the rows of a {@link CombinatorialSource}: resolves each {@link Domain} to its values
+ * (listed ones, then the keys of its testdata.json section), generates a {@link CoveringArray}
+ * of the requested strength and logs how many rows it saved over the full cross product.
+ * Rows are computed once per test method, when JUnit asks for its arguments.
+ */
+public class CombinatorialArgumentsProvider implements ArgumentsProvider, AnnotationConsumer<CombinatorialSource> {
+
+    private static final Logger log = LoggerFactory.getLogger(CombinatorialArgumentsProvider.class);
+
+    private CombinatorialSource source;
+
+    @Override
+    public void accept(CombinatorialSource source) {
+        this.source = source;
+    }
+
+    @Override
+    public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
+        List<List<String>> domains = Arrays.stream(source.value())
+                .map(CombinatorialArgumentsProvider::values)
+                .collect(Collectors.toList());
+        int strength = Integer.getInteger("combinatorial.strength", source.strength());
+
+        List<List<String>> rows = CoveringArray.generate(domains, strength);
+        long crossProduct = domains.stream().mapToLong(List::size).reduce(1, (a, b) -> a * b);
+        log.info("{}: {} {}-wise scenarios instead of {} for the full cross product of {}",
+                context.getRequiredTestMethod().getName(), rows.size(), strength, crossProduct,
+                Arrays.stream(source.value()).map(Domain::name).collect(Collectors.toList()));
+
+        return rows.stream().map(row -> Arguments.of(row.toArray()));
+    }
+
+    private static List<String> values(Domain domain) {
+        List<String> values = new ArrayList<>(List.of(domain.values()));
+        if (!domain.from().isEmpty()) {
+            TestDataLoader.getKeys(domain.from()).stream()
+                    .filter(key -> !values.contains(key))
+                    .forEach(values::add);
+        }
+        if (values.isEmpty()) {
+            throw new IllegalArgumentException("❌ Domain '" + domain.name() + "' has no values"
+                    + (domain.from().isEmpty() ? "" : ", section '" + domain.from() + "' is empty"));
+        }
+        return values;
+    }
+}
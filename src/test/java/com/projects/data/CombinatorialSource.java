@@ -0,0 +1,34 @@
+package com.projects.data;
+
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Feeds a @ParameterizedTest with a t-wise covering set of the declared domains instead of
+ * their full cross product: every combination of values of any {@link #strength()} parameters
+ * is run at least once. Arguments are the domain values as strings, in declaration order.
+ *
+ * <pre>
+ * &#64;ParameterizedTest
+ * &#64;CombinatorialSource({
+ *         &#64;Domain(name = "user", values = {"standard_user", "performance_glitch_user"}),
+ *         &#64;Domain(name = "checkout", from = "checkout")})
+ * </pre>
+ *
+ * -Dcombinatorial.strength overrides the strength for the whole run, e.g. a high value for
+ * a nightly full cross product.
+ */
+@Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@ArgumentsSource(CombinatorialArgumentsProvider.class)
+public @interface CombinatorialSource {
+
+    Domain[] value();
+
+    /** 2 for pairwise, 3 for all triples, and so on. */
+    int strength() default 2;
+}
@@ -0,0 +1,184 @@
+package com.projects.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Builds a t-wise covering array: a set of rows in which every combination of values of any
+ * t parameters appears at least once. With t = 2 (pairwise) the row count grows with the
+ * square of the largest domain instead of the product of all domains.
+ *
+ * Uses the AETG greedy construction: for each new row a few candidates are built from the
+ * first uncovered combination, filling the other parameters with the values that cover the
+ * most remaining combinations, and the best candidate is kept. The random choices use a
+ * fixed seed, so the same domains always give the same rows.
+ */
+public final class CoveringArray {
+
+    // Fixed, so a test's scenarios only change when its domains do
+    private static final long SEED = 7;
+    private static final int CANDIDATES = 30;
+
+    private CoveringArray() {
+    }
+
+    public static List<List<String>> generate(List<List<String>> domains, int strength) {
+        if (domains.isEmpty()) {
+            return List.of();
+        }
+        for (List<String> domain : domains) {
+            if (domain.isEmpty()) {
+                throw new IllegalArgumentException("❌ Every parameter needs at least one value");
+            }
+        }
+        int t = Math.max(1, Math.min(strength, domains.size()));
+        List<int[]> parameterSets = combinations(domains.size(), t);
+
+        Set<List<Integer>> uncovered = new HashSet<>();
+        List<List<Integer>> ordered = new ArrayList<>();
+        for (int[] parameters : parameterSets) {
+            for (int[] values : valueCombinations(domains, parameters)) {
+                int[] partial = new int[domains.size()];
+                for (int i = 0; i < parameters.length; i++) {
+                    partial[parameters[i]] = values[i];
+                }
+                List<Integer> tuple = tuple(parameters, partial);
+                uncovered.add(tuple);
+                ordered.add(tuple);
+            }
+        }
+
+        List<List<String>> rows = new ArrayList<>();
+        Random random = new Random(SEED);
+        while (!uncovered.isEmpty()) {
+            List<Integer> seed = ordered.stream().filter(uncovered::contains).findFirst().orElseThrow();
+            int[] best = null;
+            int bestCoverage = -1;
+            for (int candidate = 0; candidate < CANDIDATES; candidate++) {
+                int[] row = candidateRow(domains, parameterSets, uncovered, seed, random);
+                int coverage = newlyCovered(row, parameterSets, uncovered);
+                if (coverage > bestCoverage) {
+                    best = row;
+                    bestCoverage = coverage;
+                }
+            }
+            for (int[] parameters : parameterSets) {
+                uncovered.remove(tuple(parameters, best));
+            }
+            rows.add(values(domains, best));
+        }
+        return rows;
+    }
+
+    // Starts from the seed combination and fills the other parameters, in random order,
+    // with the value covering the most remaining combinations
+    private static int[] candidateRow(List<List<String>> domains, List<int[]> parameterSets,
+                                      Set<List<Integer>> uncovered, List<Integer> seed, Random random) {
+        int[] row = new int[domains.size()];
+        Arrays.fill(row, -1);
+        for (int i = 0; i < seed.size(); i += 2) {
+            row[seed.get(i)] = seed.get(i + 1);
+        }
+        List<Integer> order = new ArrayList<>();
+        for (int parameter = 0; parameter < row.length; parameter++) {
+            if (row[parameter] < 0) {
+                order.add(parameter);
+            }
+        }
+        Collections.shuffle(order, random);
+        for (int parameter : order) {
+            int size = domains.get(parameter).size();
+            int offset = random.nextInt(size);
+            int best = offset;
+            int bestGain = -1;
+            for (int i = 0; i < size; i++) {
+                int value = (offset + i) % size;
+                row[parameter] = value;
+                int gain = newlyCovered(row, parameterSets, uncovered);
+                if (gain > bestGain) {
+                    best = value;
+                    bestGain = gain;
+                }
+            }
+            row[parameter] = best;
+        }
+        return row;
+    }
+
+    // Combinations fully assigned in the (partial) row that are still uncovered
+    private static int newlyCovered(int[] row, List<int[]> parameterSets, Set<List<Integer>> uncovered) {
+        int gain = 0;
+        for (int[] parameters : parameterSets) {
+            boolean assigned = true;
+            for (int parameter : parameters) {
+                assigned &= row[parameter] >= 0;
+            }
+            if (assigned && uncovered.contains(tuple(parameters, row))) {
+                gain++;
+            }
+        }
+        return gain;
+    }
+
+    // [parameter, value, parameter, value, ...] of the row, for the given parameters
+    private static List<Integer> tuple(int[] parameters, int[] row) {
+        List<Integer> tuple = new ArrayList<>(parameters.length * 2);
+        for (int parameter : parameters) {
+            tuple.add(parameter);
+            tuple.add(row[parameter]);
+        }
+        return tuple;
+    }
+
+    private static List<int[]> combinations(int n, int k) {
+        List<int[]> result = new ArrayList<>();
+        int[] current = new int[k];
+        for (int i = 0; i < k; i++) {
+            current[i] = i;
+        }
+        while (true) {
+            result.add(current.clone());
+            int i = k - 1;
+            while (i >= 0 && current[i] == n - k + i) {
+                i--;
+            }
+            if (i < 0) {
+                return result;
+            }
+            current[i]++;
+            for (int j = i + 1; j < k; j++) {
+                current[j] = current[j - 1] + 1;
+            }
+        }
+    }
+
+    private static List<int[]> valueCombinations(List<List<String>> domains, int[] parameters) {
+        List<int[]> result = new ArrayList<>();
+        int[] current = new int[parameters.length];
+        while (true) {
+            result.add(current.clone());
+            int i = parameters.length - 1;
+            while (i >= 0 && current[i] == domains.get(parameters[i]).size() - 1) {
+                current[i] = 0;
+                i--;
+            }
+            if (i < 0) {
+                return result;
+            }
+            current[i]++;
+        }
+    }
+
+    private static List<String> values(List<List<String>> domains, int[] row) {
+        List<String> values = new ArrayList<>(row.length);
+        for (int parameter = 0; parameter < row.length; parameter++) {
+            values.add(domains.get(parameter).get(row[parameter]));
+        }
+        return values;
+    }
+}
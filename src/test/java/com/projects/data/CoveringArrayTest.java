@@ -0,0 +1,126 @@
+package com.projects.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CoveringArrayTest {
+
+    @Test
+    void pairwiseCoversEveryPairOfFourTernaryParameters() {
+        List<List<String>> domains = domains(4, 3);
+
+        List<List<String>> rows = CoveringArray.generate(domains, 2);
+
+        assertCovers(domains, rows, 2);
+        assertEquals(9, rows.size(), "3^4 pairwise is optimal at 9 rows");
+    }
+
+    @Test
+    void pairwiseStaysSmallForThirteenParameters() {
+        List<List<String>> domains = domains(13, 3);
+
+        List<List<String>> rows = CoveringArray.generate(domains, 2);
+
+        assertCovers(domains, rows, 2);
+        assertTrue(rows.size() <= 20, "3^13 pairwise should need about 19 rows, got " + rows.size());
+    }
+
+    @Test
+    void threeWayCoversEveryTriple() {
+        List<List<String>> domains = domains(5, 4);
+
+        List<List<String>> rows = CoveringArray.generate(domains, 3);
+
+        assertCovers(domains, rows, 3);
+        assertTrue(rows.size() < 1024, "3-way should need far fewer rows than all 4^5 combinations");
+    }
+
+    @Test
+    void mixedDomainsAreCovered() {
+        List<List<String>> domains = List.of(
+                List.of("standard_user", "performance_glitch_user"),
+                List.of("backpack", "backpack;bike_light", "onesie;fleece_jacket;red_tshirt"),
+                List.of("valid", "invalid"));
+
+        List<List<String>> rows = CoveringArray.generate(domains, 2);
+
+        assertCovers(domains, rows, 2);
+        assertEquals(6, rows.size());
+    }
+
+    @Test
+    void sameDomainsGiveSameRows() {
+        List<List<String>> domains = domains(6, 3);
+
+        assertEquals(CoveringArray.generate(domains, 2), CoveringArray.generate(domains, 2));
+        assertEquals(CoveringArray.generate(domains, 3), CoveringArray.generate(domains, 3));
+    }
+
+    @Test
+    void strengthAboveParameterCountGivesEveryCombination() {
+        List<List<String>> domains = domains(2, 3);
+
+        assertEquals(9, CoveringArray.generate(domains, 5).size());
+    }
+
+    @Test
+    void rejectsEmptyDomain() {
+        assertThrows(IllegalArgumentException.class,
+                () -> CoveringArray.generate(List.of(List.of("a"), List.of()), 2));
+    }
+
+    private static List<List<String>> domains(int parameters, int values) {
+        List<List<String>> domains = new ArrayList<>();
+        for (int p = 0; p < parameters; p++) {
+            List<String> domain = new ArrayList<>();
+            for (int v = 0; v < values; v++) {
+                domain.add("p" + p + "v" + v);
+            }
+            domains.add(domain);
+        }
+        return domains;
+    }
+
+    // Every t-tuple of values of every t parameters must appear in some row
+    private static void assertCovers(List<List<String>> domains, List<List<String>> rows, int t) {
+        for (List<String> row : rows) {
+            assertEquals(domains.size(), row.size(), "Row " + row + " should set every parameter");
+        }
+        for (List<Integer> parameters : subsets(domains.size(), t)) {
+            Set<List<String>> seen = new HashSet<>();
+            for (List<String> row : rows) {
+                List<String> tuple = new ArrayList<>();
+                parameters.forEach(p -> tuple.add(row.get(p)));
+                seen.add(tuple);
+            }
+            int expected = parameters.stream().mapToInt(p -> domains.get(p).size()).reduce(1, (a, b) -> a * b);
+            assertEquals(expected, seen.size(), "Not every combination of parameters " + parameters + " is covered");
+        }
+    }
+
+    private static List<List<Integer>> subsets(int n, int k) {
+        List<List<Integer>> subsets = new ArrayList<>();
+        collect(n, k, 0, new ArrayList<>(), subsets);
+        return subsets;
+    }
+
+    private static void collect(int n, int k, int from, List<Integer> current, List<List<Integer>> subsets) {
+        if (current.size() == k) {
+            subsets.add(new ArrayList<>(current));
+            return;
+        }
+        for (int i = from; i < n; i++) {
+            current.add(i);
+            collect(n, k, i + 1, current, subsets);
+            current.remove(current.size() - 1);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.projects.data;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * One parameter of a {@link CombinatorialSource} and the values it can take: the listed
+ * {@link #values()} followed by the keys of the testdata.json section named by {@link #from()},
+ * so the domain grows with the test data.
+ */
+@Target({})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Domain {
+
+    /** Name used in logs, e.g. "user". */
+    String name();
+
+    String[] values() default {};
+
+    /** Section of testdata/testdata.json whose keys are values too, e.g. "checkout". */
+    String from() default "";
+}
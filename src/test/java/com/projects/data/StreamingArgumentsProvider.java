@@ -0,0 +1,224 @@
+package com.projects.data;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.support.AnnotationConsumer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads the rows of a {@link StreamingSource} lazily: JSONL through Jackson's incremental
+ * parser, CSV line by line. Filtering and sampling happen on the fly, nothing is buffered.
+ * The reader is closed when JUnit closes the argument stream.
+ */
+public class StreamingArgumentsProvider implements ArgumentsProvider, AnnotationConsumer<StreamingSource> {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private StreamingSource source;
+
+    @Override
+    public void accept(StreamingSource source) {
+        this.source = source;
+    }
+
+    @Override
+    public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
+        String resource = source.value();
+        InputStream is = getClass().getResourceAsStream("/" + resource);
+        if (is == null) {
+            throw new IllegalStateException("❌ " + resource + " not found in resources");
+        }
+        BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8));
+
+        Iterator<Map<String, String>> rows;
+        if (resource.endsWith(".jsonl")) {
+            rows = jsonRows(reader);
+        } else if (resource.endsWith(".csv")) {
+            rows = csvRows(reader, resource);
+        } else {
+            close(reader);
+            throw new IllegalArgumentException("❌ Unsupported data file '" + resource + "', expected .jsonl or .csv");
+        }
+
+        Stream<Map<String, String>> stream = StreamSupport
+                .stream(Spliterators.spliteratorUnknownSize(rows, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> close(reader))
+                .filter(filter());
+
+        int every = Integer.getInteger("data.every", source.every());
+        double sample = Double.parseDouble(System.getProperty("data.sample", String.valueOf(source.sample())));
+        long seed = Long.getLong("data.seed", source.seed());
+        long limit = Long.getLong("data.limit", source.limit());
+
+        if (every > 1) {
+            long[] position = {0};
+            stream = stream.filter(row -> position[0]++ % every == 0);
+        }
+        if (sample < 1.0) {
+            Random random = new Random(seed);
+            stream = stream.filter(row -> random.nextDouble() < sample);
+        }
+        if (limit > 0) {
+            stream = stream.limit(limit);
+        }
+        return stream.map(this::toArguments);
+    }
+
+    private Arguments toArguments(Map<String, String> row) {
+        Object[] values = new Object[source.columns().length];
+        for (int i = 0; i < values.length; i++) {
+            String column = source.columns()[i];
+            if (!row.containsKey(column)) {
+                throw new IllegalArgumentException("❌ Column '" + column + "' missing in " + source.value() + " row " + row);
+            }
+            values[i] = row.get(column);
+        }
+        return Arguments.of(values);
+    }
+
+    private Predicate<Map<String, String>> filter() {
+        Predicate<Map<String, String>> all = row -> true;
+        for (String condition : source.filter()) {
+            int eq = condition.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("❌ Filter '" + condition + "' must look like column=value");
+            }
+            String column = condition.substring(0, eq).trim();
+            Pattern value = Pattern.compile(Pattern.quote(condition.substring(eq + 1).trim()).replace("*", "\\E.*\\Q"));
+            all = all.and(row -> row.get(column) != null && value.matcher(row.get(column)).matches());
+        }
+        return all;
+    }
+
+    private static Iterator<Map<String, String>> jsonRows(BufferedReader reader) {
+        MappingIterator<JsonNode> nodes;
+        try {
+            nodes = mapper.readerFor(JsonNode.class).readValues(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return nodes.hasNext();
+            }
+
+            @Override
+            public Map<String, String> next() {
+                JsonNode node = nodes.next();
+                Map<String, String> row = new HashMap<>();
+                node.fields().forEachRemaining(field -> row.put(field.getKey(), text(field.getValue())));
+                return row;
+            }
+        };
+    }
+
+    private static String text(JsonNode value) {
+        if (!value.isArray()) {
+            return value.isNull() ? null : value.asText();
+        }
+        List<String> items = new ArrayList<>();
+        value.forEach(item -> items.add(item.asText()));
+        return String.join(";", items);
+    }
+
+    private static Iterator<Map<String, String>> csvRows(BufferedReader reader, String resource) {
+        List<String> header = csvLine(readLine(reader), resource);
+        return new Iterator<>() {
+            private String next = readLine(reader);
+
+            @Override
+            public boolean hasNext() {
+                while (next != null && next.isBlank()) {
+                    next = readLine(reader);
+                }
+                return next != null;
+            }
+
+            @Override
+            public Map<String, String> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                List<String> cells = csvLine(next, resource);
+                next = readLine(reader);
+                Map<String, String> row = new HashMap<>();
+                for (int i = 0; i < header.size(); i++) {
+                    row.put(header.get(i), i < cells.size() ? cells.get(i) : "");
+                }
+                return row;
+            }
+        };
+    }
+
+    // RFC 4180 cells on a single line: quoted cells may contain commas and "" escapes
+    private static List<String> csvLine(String line, String resource) {
+        if (line == null) {
+            throw new IllegalStateException("❌ " + resource + " has no header row");
+        }
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    cell.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    cell.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                cells.add(cell.toString());
+                cell.setLength(0);
+            } else {
+                cell.append(c);
+            }
+        }
+        cells.add(cell.toString());
+        return cells;
+    }
+
+    private static String readLine(BufferedReader reader) {
+        try {
+            return reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void close(BufferedReader reader) {
+        try {
+            reader.close();
+        } catch (IOException ignored) {
+            // nothing left to read
+        }
+    }
+}
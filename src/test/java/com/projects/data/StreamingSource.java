@@ -0,0 +1,52 @@
+package com.projects.data;
+
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Feeds a @ParameterizedTest from a .jsonl or .csv test resource, one row at a time, so
+ * files of any size run in constant memory. Each row becomes one invocation whose arguments
+ * are the {@link #columns()} values as strings, in the declared order (JUnit converts them to
+ * the parameter types). List-valued cells use ';' in CSV and JSON arrays in JSONL, and reach
+ * the test as a ';'-joined string.
+ *
+ * <pre>
+ * &#64;ParameterizedTest
+ * &#64;StreamingSource(value = "testdata/checkout-scenarios.csv",
+ *         columns = {"user", "products", "checkout", "shouldSucceed"},
+ *         filter = "user=standard_user", every = 10)
+ * </pre>
+ *
+ * every, sample, seed and limit can be overridden for the whole run with -Ddata.every,
+ * -Ddata.sample, -Ddata.seed and -Ddata.limit.
+ */
+@Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@ArgumentsSource(StreamingArgumentsProvider.class)
+public @interface StreamingSource {
+
+    /** Classpath resource, e.g. testdata/checkout-scenarios.jsonl. The format follows the extension. */
+    String value();
+
+    /** Fields (JSONL) or header names (CSV) passed to the test, in parameter order. */
+    String[] columns();
+
+    /** column=value conditions a row must all meet; value may use * wildcards. */
+    String[] filter() default {};
+
+    /** Keep every Nth matching row. */
+    int every() default 1;
+
+    /** Keep each matching row with this probability, e.g. 0.01 for a 1% sample. */
+    double sample() default 1.0;
+
+    /** Seed of the sample, so the same rows are picked on every run. */
+    long seed() default 42;
+
+    /** Stop after this many rows, 0 for no limit. */
+    long limit() default 0;
+}
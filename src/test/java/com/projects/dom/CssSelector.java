@@ -0,0 +1,308 @@
+package com.projects.dom;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * The part of CSS selectors the page objects use: type, #id, .class, [attr], [attr=value]
+ * (and ~= ^= $= *= |=), :first-child, :last-child, :not(...), the descendant, &gt;, + and ~
+ * combinators and comma-separated groups. Anything else is rejected rather than silently
+ * matching differently than the browser would.
+ */
+final class CssSelector {
+
+    private static final Map<String, CssSelector> cache = new ConcurrentHashMap<>();
+
+    // Each group is a chain of compounds read right to left: compounds.get(0) is the subject
+    private final List<List<Step>> groups;
+
+    private CssSelector(List<List<Step>> groups) {
+        this.groups = groups;
+    }
+
+    static CssSelector parse(String css) {
+        return cache.computeIfAbsent(css, key -> new Parser(key).parseList());
+    }
+
+    boolean matches(Element element) {
+        for (List<Step> group : groups) {
+            if (matches(group, 0, element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matches(List<Step> chain, int index, Element element) {
+        Step step = chain.get(index);
+        if (!step.compound.test(element)) {
+            return false;
+        }
+        if (index == chain.size() - 1) {
+            return true;
+        }
+        switch (step.combinator) {
+            case '>':
+                return isElement(element.parent()) && matches(chain, index + 1, element.parent());
+            case ' ':
+                for (Element ancestor = element.parent(); isElement(ancestor); ancestor = ancestor.parent()) {
+                    if (matches(chain, index + 1, ancestor)) {
+                        return true;
+                    }
+                }
+                return false;
+            case '+': {
+                List<Element> siblings = siblings(element);
+                int position = siblings.indexOf(element);
+                return position > 0 && matches(chain, index + 1, siblings.get(position - 1));
+            }
+            case '~': {
+                List<Element> siblings = siblings(element);
+                for (int i = siblings.indexOf(element) - 1; i >= 0; i--) {
+                    if (matches(chain, index + 1, siblings.get(i))) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            default:
+                throw new IllegalStateException("❌ Unknown combinator '" + step.combinator + "'");
+        }
+    }
+
+    private static boolean isElement(Element element) {
+        return element != null && !element.tag().equals("#document");
+    }
+
+    private static List<Element> siblings(Element element) {
+        return element.parent() == null ? List.of(element) : element.parent().elements();
+    }
+
+    /** A compound selector and the combinator linking it to the compound on its left. */
+    private static final class Step {
+        final Predicate<Element> compound;
+        final char combinator;
+
+        Step(Predicate<Element> compound, char combinator) {
+            this.compound = compound;
+            this.combinator = combinator;
+        }
+    }
+
+    private static final class Parser {
+        private final String css;
+        private int pos;
+
+        Parser(String css) {
+            this.css = css;
+        }
+
+        CssSelector parseList() {
+            List<List<Step>> groups = new ArrayList<>();
+            do {
+                groups.add(parseChain());
+            } while (consume(','));
+            skipWhitespace();
+            if (pos < css.length()) {
+                throw unsupported();
+            }
+            return new CssSelector(groups);
+        }
+
+        private List<Step> parseChain() {
+            List<Predicate<Element>> compounds = new ArrayList<>();
+            List<Character> combinators = new ArrayList<>();
+            skipWhitespace();
+            compounds.add(parseCompound());
+            while (true) {
+                boolean whitespace = skipWhitespace();
+                if (pos >= css.length() || css.charAt(pos) == ',' || css.charAt(pos) == ')') {
+                    break;
+                }
+                char c = css.charAt(pos);
+                if (c == '>' || c == '+' || c == '~') {
+                    pos++;
+                    skipWhitespace();
+                    combinators.add(c);
+                } else if (whitespace) {
+                    combinators.add(' ');
+                } else {
+                    throw unsupported();
+                }
+                compounds.add(parseCompound());
+            }
+
+            // Reverse so matching starts from the subject
+            List<Step> chain = new ArrayList<>();
+            for (int i = compounds.size() - 1; i >= 0; i--) {
+                chain.add(new Step(compounds.get(i), i > 0 ? combinators.get(i - 1) : ' '));
+            }
+            return chain;
+        }
+
+        private Predicate<Element> parseCompound() {
+            List<Predicate<Element>> parts = new ArrayList<>();
+            boolean universal = pos < css.length() && css.charAt(pos) == '*';
+            if (universal) {
+                pos++;
+            } else if (pos < css.length() && isIdentifierChar(css.charAt(pos))) {
+                String tag = identifier().toLowerCase(Locale.ROOT);
+                parts.add(element -> element.tag().equals(tag));
+            }
+            while (pos < css.length()) {
+                char c = css.charAt(pos);
+                if (c == '#') {
+                    pos++;
+                    String id = identifier();
+                    parts.add(element -> id.equals(element.attr("id")));
+                } else if (c == '.') {
+                    pos++;
+                    String className = identifier();
+                    parts.add(element -> element.hasClass(className));
+                } else if (c == '[') {
+                    pos++;
+                    parts.add(parseAttribute());
+                } else if (c == ':') {
+                    pos++;
+                    parts.add(parsePseudo());
+                } else {
+                    break;
+                }
+            }
+            if (parts.isEmpty() && !universal) {
+                throw unsupported();
+            }
+            return element -> parts.stream().allMatch(part -> part.test(element));
+        }
+
+        private Predicate<Element> parseAttribute() {
+            skipWhitespace();
+            String name = identifier();
+            skipWhitespace();
+            if (consume(']')) {
+                return element -> element.hasAttr(name);
+            }
+            String operator;
+            if (css.startsWith("=", pos)) {
+                operator = "=";
+            } else if (pos + 1 < css.length() && css.charAt(pos + 1) == '=' && "~^$*|".indexOf(css.charAt(pos)) >= 0) {
+                operator = css.substring(pos, pos + 2);
+            } else {
+                throw unsupported();
+            }
+            pos += operator.length();
+            skipWhitespace();
+            String value = value();
+            skipWhitespace();
+            if (!consume(']')) {
+                throw unsupported();
+            }
+            return element -> {
+                String actual = element.attr(name);
+                if (actual == null) {
+                    return false;
+                }
+                switch (operator) {
+                    case "=": return actual.equals(value);
+                    case "~=": return List.of(actual.trim().split("\\s+")).contains(value);
+                    case "^=": return !value.isEmpty() && actual.startsWith(value);
+                    case "$=": return !value.isEmpty() && actual.endsWith(value);
+                    case "*=": return !value.isEmpty() && actual.contains(value);
+                    default: return actual.equals(value) || actual.startsWith(value + "-");
+                }
+            };
+        }
+
+        private Predicate<Element> parsePseudo() {
+            String name = identifier().toLowerCase(Locale.ROOT);
+            switch (name) {
+                case "first-child":
+                    return element -> siblings(element).indexOf(element) == 0;
+                case "last-child":
+                    return element -> {
+                        List<Element> siblings = siblings(element);
+                        return siblings.indexOf(element) == siblings.size() - 1;
+                    };
+                case "not": {
+                    if (!consume('(')) {
+                        throw unsupported();
+                    }
+                    List<List<Step>> inner = new ArrayList<>();
+                    do {
+                        inner.add(parseChain());
+                    } while (consume(','));
+                    if (!consume(')')) {
+                        throw unsupported();
+                    }
+                    CssSelector negated = new CssSelector(inner);
+                    return element -> !negated.matches(element);
+                }
+                default:
+                    throw unsupported();
+            }
+        }
+
+        private String value() {
+            if (pos < css.length() && (css.charAt(pos) == '"' || css.charAt(pos) == '\'')) {
+                char quote = css.charAt(pos);
+                int end = css.indexOf(quote, pos + 1);
+                if (end < 0) {
+                    throw unsupported();
+                }
+                String value = css.substring(pos + 1, end);
+                pos = end + 1;
+                return value;
+            }
+            return identifier();
+        }
+
+        private String identifier() {
+            StringBuilder identifier = new StringBuilder();
+            while (pos < css.length()) {
+                char c = css.charAt(pos);
+                if (c == '\\' && pos + 1 < css.length()) {
+                    identifier.append(css.charAt(pos + 1));
+                    pos += 2;
+                } else if (isIdentifierChar(c)) {
+                    identifier.append(c);
+                    pos++;
+                } else {
+                    break;
+                }
+            }
+            if (identifier.length() == 0) {
+                throw unsupported();
+            }
+            return identifier.toString();
+        }
+
+        private static boolean isIdentifierChar(char c) {
+            return Character.isLetterOrDigit(c) || c == '-' || c == '_' || c > 0x7f;
+        }
+
+        private boolean consume(char expected) {
+            skipWhitespace();
+            if (pos < css.length() && css.charAt(pos) == expected) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private boolean skipWhitespace() {
+            int start = pos;
+            while (pos < css.length() && Character.isWhitespace(css.charAt(pos))) {
+                pos++;
+            }
+            return pos > start;
+        }
+
+        private IllegalArgumentException unsupported() {
+            return new IllegalArgumentException("❌ Unsupported or invalid selector '" + css + "' at position " + pos);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.projects.dom;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CssSelectorTest {
+
+    private static final Element PAGE = HtmlParser.parse(
+            "<div id=\"root\" class=\"app\">"
+                    + "<ul class=\"list\">"
+                    + "<li id=\"a\" class=\"item first\" data-test=\"item-a\">A</li>"
+                    + "<li id=\"b\" class=\"item\" data-test=\"item-b\"><span id=\"inner\" class=\"item\">B</span></li>"
+                    + "<li id=\"c\" class=\"item sold-out\" lang=\"en-US\">C</li>"
+                    + "<li id=\"d\" class=\"item\">D</li>"
+                    + "</ul>"
+                    + "<p id=\"note\">note</p>"
+                    + "</div>");
+
+    private static List<String> ids(String css) {
+        return PAGE.select(css).stream().map(element -> element.attr("id")).toList();
+    }
+
+    @Test
+    void typeIdClassAndCompounds() {
+        assertEquals(List.of("a", "b", "c", "d"), ids("li"));
+        assertEquals(List.of("note"), ids("#note"));
+        assertEquals(List.of("a", "b", "inner", "c", "d"), ids(".item"));
+        assertEquals(List.of("a", "b", "c", "d"), ids("li.item"));
+        assertEquals(List.of("c"), ids("li.item.sold-out"));
+        assertEquals(List.of("root", "a", "b", "inner", "c", "d", "note"), ids("*[id]"));
+    }
+
+    @Test
+    void descendantAndChildCombinators() {
+        assertEquals(List.of("a", "b", "inner", "c", "d"), ids("#root .item"));
+        assertEquals(List.of("a", "b", "c", "d"), ids("ul > .item"));
+        assertEquals(List.of("inner"), ids("li > span"));
+        assertTrue(ids("#root > li").isEmpty());
+        assertEquals(List.of("inner"), ids("div  ul li>span"));
+    }
+
+    @Test
+    void adjacentSiblingCombinator() {
+        assertEquals(List.of("b"), ids("#a + li"));
+        assertEquals(List.of("note"), ids("ul + p"));
+        assertTrue(ids("#a + #c").isEmpty());
+    }
+
+    @Test
+    void generalSiblingCombinator() {
+        assertEquals(List.of("b", "c", "d"), ids("#a ~ li"));
+        assertEquals(List.of("d"), ids(".sold-out ~ .item"));
+        assertTrue(ids("#d ~ li").isEmpty());
+    }
+
+    @Test
+    void negation() {
+        assertEquals(List.of("b", "c", "d"), ids("li:not(.first)"));
+        assertEquals(List.of("b", "d"), ids("li:not(.first, .sold-out)"));
+        // Complex selectors inside :not, as in Selectors Level 4
+        assertEquals(List.of("a", "b", "c", "d"), ids(".item:not(li > span)"));
+    }
+
+    @Test
+    void structuralPseudoClasses() {
+        assertEquals(List.of("root", "a", "inner"), ids("*[id]:first-child"));
+        assertEquals(List.of("d"), ids("li:last-child"));
+    }
+
+    @Test
+    void attributeOperators() {
+        assertEquals(List.of("a"), ids("[data-test=item-a]"));
+        assertEquals(List.of("b"), ids("[data-test=\"item-b\"]"));
+        assertEquals(List.of("a", "b"), ids("[data-test^='item-']"));
+        assertEquals(List.of("b"), ids("[data-test$=b]"));
+        assertEquals(List.of("a", "b"), ids("[data-test*=tem]"));
+        assertEquals(List.of("c"), ids("[class~=sold-out]"));
+        assertEquals(List.of("c"), ids("[lang|=en]"));
+        assertTrue(ids("[data-test^='']").isEmpty());
+    }
+
+    @Test
+    void groupsKeepDocumentOrder() {
+        assertEquals(List.of("a", "note"), ids("#note, #a"));
+    }
+
+    @Test
+    void rejectsWhatItDoesNotSupport() {
+        assertThrows(IllegalArgumentException.class, () -> PAGE.select("li:nth-child(2)"));
+        assertThrows(IllegalArgumentException.class, () -> PAGE.select("li::before"));
+        assertThrows(IllegalArgumentException.class, () -> PAGE.select("[data-test!=x]"));
+        assertThrows(IllegalArgumentException.class, () -> PAGE.select("li >"));
+        assertThrows(IllegalArgumentException.class, () -> PAGE.select(""));
+    }
+}
@@ -0,0 +1,151 @@
+package com.projects.dom;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * On-disk store of recorded pages: -DdomSnapshots.dir (default dom-snapshots) holds one
+ * gzipped HTML file per distinct page, named by the SHA-256 of its content, and index.jsonl
+ * with one line per snapshot: file, url, the Selenide step that led to it and the answers
+ * the page objects gave in the browser.
+ *
+ * -DdomSnapshots=record fills the store during a normal run; the replay reads it back
+ * without a browser.
+ */
+public final class DomSnapshots {
+
+    private static final Logger log = LoggerFactory.getLogger(DomSnapshots.class);
+
+    private static final boolean RECORD = "record".equalsIgnoreCase(System.getProperty("domSnapshots", ""));
+    private static final Path DIR = Paths.get(System.getProperty("domSnapshots.dir", "dom-snapshots"));
+    private static final Path INDEX = DIR.resolve("index.jsonl");
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> MAP = new TypeReference<>() {
+    };
+
+    private DomSnapshots() {
+    }
+
+    public static boolean isRecording() {
+        return RECORD;
+    }
+
+    public static boolean hasRecordings() {
+        return Files.isRegularFile(INDEX);
+    }
+
+    /** Stores the page unless the same HTML was recorded before. */
+    public static synchronized void record(String html, String url, String step, Map<String, Object> answers) {
+        byte[] bytes = html.getBytes(StandardCharsets.UTF_8);
+        String file = sha256(bytes) + ".html.gz";
+        Path path = DIR.resolve(file);
+        if (Files.exists(path)) {
+            return;
+        }
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("file", file);
+        line.put("url", url);
+        line.put("step", step);
+        line.put("answers", answers);
+        try {
+            Files.createDirectories(DIR);
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(path))) {
+                out.write(bytes);
+            }
+            Files.writeString(INDEX, mapper.writeValueAsString(line) + "\n", StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            log.debug("Recorded {} ({}) after '{}'", file, url, step);
+        } catch (IOException e) {
+            log.warn("Could not record DOM snapshot of {}: {}", url, e.getMessage());
+        }
+    }
+
+    /** Every recorded snapshot, in recording order. */
+    public static List<Snapshot> list() {
+        if (!hasRecordings()) {
+            return List.of();
+        }
+        List<Snapshot> snapshots = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(INDEX, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                Map<String, Object> entry = mapper.readValue(line, MAP);
+                @SuppressWarnings("unchecked")
+                Map<String, Object> answers = (Map<String, Object>) entry.get("answers");
+                snapshots.add(new Snapshot((String) entry.get("file"), (String) entry.get("url"),
+                        (String) entry.get("step"), answers));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("❌ Could not read " + INDEX, e);
+        }
+        return snapshots;
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("❌ SHA-256 is not available", e);
+        }
+    }
+
+    public static final class Snapshot {
+        private final String file;
+        private final String url;
+        private final String step;
+        private final Map<String, Object> answers;
+
+        Snapshot(String file, String url, String step, Map<String, Object> answers) {
+            this.file = file;
+            this.url = url;
+            this.step = step;
+            this.answers = Collections.unmodifiableMap(answers);
+        }
+
+        public String getFile() { return file; }
+        public String getUrl() { return url; }
+        public String getStep() { return step; }
+        /** What the page objects answered in the browser, see PageProbe. */
+        public Map<String, Object> getAnswers() { return answers; }
+
+        /** Parses the recorded HTML. */
+        public Element load() {
+            try (InputStream in = new GZIPInputStream(Files.newInputStream(DIR.resolve(file)))) {
+                return HtmlParser.parse(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new UncheckedIOException("❌ Could not read DOM snapshot " + file, e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return url + " after " + step;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.projects.dom;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Element of a parsed HTML snapshot, see {@link HtmlParser}. Children are elements or text
+ * strings. Queries take CSS selectors as supported by {@link CssSelector}.
+ */
+public final class Element {
+
+    // Not part of the rendered text, as with innerText
+    private static final Set<String> NON_TEXT = Set.of("script", "style", "noscript", "template", "head");
+    // Rendered on their own line, so their text never runs into the neighbours'
+    private static final Set<String> BLOCKS = Set.of("address", "article", "aside", "blockquote", "br", "dd", "div",
+            "dl", "dt", "fieldset", "footer", "form", "h1", "h2", "h3", "h4", "h5", "h6", "header", "hr", "li",
+            "main", "nav", "ol", "p", "pre", "section", "table", "td", "th", "tr", "ul");
+
+    private final String tag;
+    private final Map<String, String> attributes;
+    private final List<Object> children = new ArrayList<>();
+    private final Element parent;
+
+    Element(String tag, Map<String, String> attributes, Element parent) {
+        this.tag = tag;
+        this.attributes = attributes;
+        this.parent = parent;
+    }
+
+    static Element document() {
+        return new Element("#document", new LinkedHashMap<>(), null);
+    }
+
+    void append(Object child) {
+        children.add(child);
+    }
+
+    public String tag() {
+        return tag;
+    }
+
+    public Element parent() {
+        return parent;
+    }
+
+    public String attr(String name) {
+        return attributes.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    public boolean hasAttr(String name) {
+        return attributes.containsKey(name.toLowerCase(Locale.ROOT));
+    }
+
+    public boolean hasClass(String className) {
+        String classes = attributes.get("class");
+        if (classes == null) {
+            return false;
+        }
+        for (String candidate : classes.trim().split("\\s+")) {
+            if (candidate.equals(className)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Child elements, without text nodes. */
+    public List<Element> elements() {
+        List<Element> elements = new ArrayList<>();
+        for (Object child : children) {
+            if (child instanceof Element element) {
+                elements.add(element);
+            }
+        }
+        return Collections.unmodifiableList(elements);
+    }
+
+    /** Rendered text with whitespace collapsed, like Selenide's getText(). */
+    public String text() {
+        StringBuilder text = new StringBuilder();
+        appendText(text);
+        return text.toString().replace('\u00a0', ' ').replaceAll("\\s+", " ").trim();
+    }
+
+    private void appendText(StringBuilder text) {
+        for (Object child : children) {
+            if (child instanceof Element element) {
+                if (NON_TEXT.contains(element.tag)) {
+                    continue;
+                }
+                boolean block = BLOCKS.contains(element.tag);
+                if (block) {
+                    text.append(' ');
+                }
+                element.appendText(text);
+                if (block) {
+                    text.append(' ');
+                }
+            } else {
+                text.append((String) child);
+            }
+        }
+    }
+
+    /**
+     * Best effort without stylesheets: hidden when the element or an ancestor has the hidden
+     * attribute, an inline display:none / visibility:hidden, or is a non-rendered element.
+     */
+    public boolean isVisible() {
+        for (Element element = this; element != null; element = element.parent) {
+            if (element.hasAttr("hidden") || NON_TEXT.contains(element.tag)) {
+                return false;
+            }
+            String style = element.attr("style");
+            if (style != null) {
+                String normalized = style.replace(" ", "").toLowerCase(Locale.ROOT);
+                if (normalized.contains("display:none") || normalized.contains("visibility:hidden")) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /** Descendants matching the selector, in document order (like querySelectorAll). */
+    public List<Element> select(String css) {
+        CssSelector selector = CssSelector.parse(css);
+        List<Element> matches = new ArrayList<>();
+        collect(selector, matches);
+        return matches;
+    }
+
+    public Optional<Element> selectFirst(String css) {
+        List<Element> matches = select(css);
+        return matches.isEmpty() ? Optional.empty() : Optional.of(matches.get(0));
+    }
+
+    private void collect(CssSelector selector, List<Element> matches) {
+        for (Object child : children) {
+            if (child instanceof Element element) {
+                if (selector.matches(element)) {
+                    matches.add(element);
+                }
+                element.collect(selector, matches);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "<" + tag + (attributes.isEmpty() ? "" : " " + attributes) + ">";
+    }
+}
@@ -0,0 +1,229 @@
+package com.projects.dom;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Parses HTML as serialized by a browser (document.documentElement.outerHTML): every
+ * non-void element is closed, attribute values are quoted. Stray or unclosed tags are
+ * tolerated but not repaired the way a browser would, so hand-written markup may nest
+ * differently than in a real DOM.
+ */
+public final class HtmlParser {
+
+    private static final Set<String> VOID = Set.of("area", "base", "br", "col", "embed", "hr", "img", "input",
+            "link", "meta", "param", "source", "track", "wbr");
+    private static final Set<String> RAW_TEXT = Set.of("script", "style", "textarea", "title");
+
+    private final String html;
+    private int pos;
+
+    private HtmlParser(String html) {
+        this.html = html;
+    }
+
+    /** A #document element holding the parsed nodes. */
+    public static Element parse(String html) {
+        return new HtmlParser(html).parseDocument();
+    }
+
+    private Element parseDocument() {
+        Element document = Element.document();
+        Deque<Element> open = new ArrayDeque<>();
+        open.push(document);
+
+        while (pos < html.length()) {
+            int lt = html.indexOf('<', pos);
+            if (lt < 0) {
+                text(open.peek(), html.substring(pos));
+                break;
+            }
+            if (lt > pos) {
+                text(open.peek(), html.substring(pos, lt));
+            }
+            pos = lt;
+
+            if (html.startsWith("<!--", pos)) {
+                int end = html.indexOf("-->", pos + 4);
+                pos = end < 0 ? html.length() : end + 3;
+            } else if (html.startsWith("<!", pos) || html.startsWith("<?", pos)) {
+                int end = html.indexOf('>', pos);
+                pos = end < 0 ? html.length() : end + 1;
+            } else if (html.startsWith("</", pos)) {
+                int end = html.indexOf('>', pos);
+                String name = html.substring(pos + 2, end < 0 ? html.length() : end).trim().toLowerCase(Locale.ROOT);
+                pos = end < 0 ? html.length() : end + 1;
+                close(open, name);
+            } else if (pos + 1 < html.length() && Character.isLetter(html.charAt(pos + 1))) {
+                startTag(open);
+            } else {
+                text(open.peek(), "<");
+                pos++;
+            }
+        }
+        return document;
+    }
+
+    private void startTag(Deque<Element> open) {
+        pos++;
+        int nameStart = pos;
+        while (pos < html.length() && !Character.isWhitespace(html.charAt(pos))
+                && html.charAt(pos) != '>' && html.charAt(pos) != '/') {
+            pos++;
+        }
+        String name = html.substring(nameStart, pos).toLowerCase(Locale.ROOT);
+        Map<String, String> attributes = new LinkedHashMap<>();
+        boolean selfClosing = false;
+
+        while (pos < html.length()) {
+            char c = html.charAt(pos);
+            if (c == '>') {
+                pos++;
+                break;
+            }
+            if (c == '/' ) {
+                selfClosing = true;
+                pos++;
+                continue;
+            }
+            if (Character.isWhitespace(c)) {
+                pos++;
+                continue;
+            }
+            selfClosing = false;
+            attribute(attributes);
+        }
+
+        Element element = new Element(name, attributes, open.peek());
+        open.peek().append(element);
+        if (VOID.contains(name) || selfClosing) {
+            return;
+        }
+        if (RAW_TEXT.contains(name)) {
+            int end = indexOfEndTag(name, pos);
+            int contentEnd = end < 0 ? html.length() : end;
+            String content = html.substring(pos, contentEnd);
+            element.append(name.equals("script") || name.equals("style") ? content : decode(content));
+            int close = end < 0 ? -1 : html.indexOf('>', end);
+            pos = close < 0 ? html.length() : close + 1;
+            return;
+        }
+        open.push(element);
+    }
+
+    private void attribute(Map<String, String> attributes) {
+        int nameStart = pos;
+        while (pos < html.length() && !Character.isWhitespace(html.charAt(pos))
+                && "=>/".indexOf(html.charAt(pos)) < 0) {
+            pos++;
+        }
+        String name = html.substring(nameStart, pos).toLowerCase(Locale.ROOT);
+        skipWhitespace();
+        String value = "";
+        if (pos < html.length() && html.charAt(pos) == '=') {
+            pos++;
+            skipWhitespace();
+            char quote = pos < html.length() ? html.charAt(pos) : ' ';
+            if (quote == '"' || quote == '\'') {
+                int end = html.indexOf(quote, pos + 1);
+                value = html.substring(pos + 1, end < 0 ? html.length() : end);
+                pos = end < 0 ? html.length() : end + 1;
+            } else {
+                int valueStart = pos;
+                while (pos < html.length() && !Character.isWhitespace(html.charAt(pos)) && html.charAt(pos) != '>') {
+                    pos++;
+                }
+                value = html.substring(valueStart, pos);
+            }
+        }
+        if (!name.isEmpty()) {
+            attributes.putIfAbsent(name, decode(value));
+        }
+    }
+
+    private static void close(Deque<Element> open, String name) {
+        // Pop up to the matching element; an end tag nobody opened is ignored
+        for (Element element : open) {
+            if (element.tag().equals(name)) {
+                while (open.peek() != element) {
+                    open.pop();
+                }
+                open.pop();
+                return;
+            }
+        }
+    }
+
+    private static void text(Element parent, String raw) {
+        if (!raw.isEmpty()) {
+            parent.append(decode(raw));
+        }
+    }
+
+    private void skipWhitespace() {
+        while (pos < html.length() && Character.isWhitespace(html.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    // In place: lowercasing a copy of the page per raw-text element made pages full of inline scripts quadratic
+    private int indexOfEndTag(String name, int from) {
+        for (int i = html.indexOf("</", from); i >= 0; i = html.indexOf("</", i + 2)) {
+            if (html.regionMatches(true, i + 2, name, 0, name.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static String decode(String text) {
+        if (text.indexOf('&') < 0) {
+            return text;
+        }
+        StringBuilder decoded = new StringBuilder(text.length());
+        int i = 0;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            int semicolon = c == '&' ? text.indexOf(';', i) : -1;
+            if (semicolon > i && semicolon - i <= 10) {
+                String entity = text.substring(i + 1, semicolon);
+                String value = entity(entity);
+                if (value != null) {
+                    decoded.append(value);
+                    i = semicolon + 1;
+                    continue;
+                }
+            }
+            decoded.append(c);
+            i++;
+        }
+        return decoded.toString();
+    }
+
+    private static String entity(String name) {
+        switch (name) {
+            case "amp": return "&";
+            case "lt": return "<";
+            case "gt": return ">";
+            case "quot": return "\"";
+            case "apos": return "'";
+            case "nbsp": return "\u00a0";
+            default:
+                try {
+                    if (name.startsWith("#x") || name.startsWith("#X")) {
+                        return new String(Character.toChars(Integer.parseInt(name.substring(2), 16)));
+                    }
+                    if (name.startsWith("#")) {
+                        return new String(Character.toChars(Integer.parseInt(name.substring(1))));
+                    }
+                } catch (IllegalArgumentException e) {
+                    return null;
+                }
+                return null;
+        }
+    }
+}
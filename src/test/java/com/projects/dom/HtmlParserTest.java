@@ -0,0 +1,120 @@
+package com.projects.dom;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HtmlParserTest {
+
+    @Test
+    void buildsTheElementTree() {
+        Element document = HtmlParser.parse(
+                "<!DOCTYPE html><html><head><title>Swag</title></head>"
+                        + "<body><div id=\"a\"><span>one</span><span>two</span></div><p>three</p></body></html>");
+
+        Element html = document.elements().get(0);
+        assertEquals("html", html.tag());
+        assertEquals(List.of("head", "body"), html.elements().stream().map(Element::tag).toList());
+        Element div = document.selectFirst("#a").orElseThrow();
+        assertEquals(2, div.elements().size());
+        assertEquals("body", div.parent().tag());
+    }
+
+    @Test
+    void decodesNamedAndNumericEntities() {
+        Element document = HtmlParser.parse(
+                "<p title=\"a &quot;b&quot; &amp; c\">Sauce &amp; Labs &lt;3 &#36;9.99 &#x41;&apos;s &unknown; & done</p>");
+
+        Element p = document.selectFirst("p").orElseThrow();
+        assertEquals("a \"b\" & c", p.attr("title"));
+        assertEquals("Sauce & Labs <3 $9.99 A's &unknown; & done", p.text());
+    }
+
+    @Test
+    void nonBreakingSpacesCountAsSpacesInText() {
+        Element document = HtmlParser.parse("<div>Total:&nbsp;&nbsp;$32.39</div>");
+
+        assertEquals("Total: $32.39", document.selectFirst("div").orElseThrow().text());
+    }
+
+    @Test
+    void voidAndSelfClosingElementsHaveNoChildren() {
+        Element document = HtmlParser.parse(
+                "<form><input id=\"user-name\" value=\"\"><br><svg><path d=\"M0\"/></svg><button>Login</button></form>");
+
+        Element form = document.selectFirst("form").orElseThrow();
+        assertEquals(List.of("input", "br", "svg", "button"), form.elements().stream().map(Element::tag).toList());
+        assertTrue(form.selectFirst("input").orElseThrow().elements().isEmpty());
+        assertEquals("svg", form.selectFirst("path").orElseThrow().parent().tag());
+    }
+
+    @Test
+    void rawTextElementsAreNotParsedAsMarkup() {
+        Element document = HtmlParser.parse(
+                "<script>if (a < b && c > d) { x = '<div>'; }</script><textarea>&lt;b&gt;</textarea><div>after</div>");
+
+        assertTrue(document.select("script div").isEmpty());
+        assertEquals(1, document.select("div").size());
+        assertEquals("<b>", document.selectFirst("textarea").orElseThrow().text());
+        // Scripts are not rendered text
+        assertEquals("<b> after", document.text());
+    }
+
+    @Test
+    void rawTextEndsAtItsEndTagInAnyCase() {
+        Element document = HtmlParser.parse("<SCRIPT>var a = '</b>';</Script><p>İstanbul</p><style>p {}</STYLE><p>after</p>");
+
+        assertEquals(List.of("script", "p", "style", "p"), document.elements().stream().map(Element::tag).toList());
+        assertTrue(document.select("b").isEmpty());
+        // Characters whose lowercase form is longer must not shift where later end tags are found
+        assertEquals(List.of("İstanbul", "after"), document.select("p").stream().map(Element::text).toList());
+    }
+
+    @Test
+    void attributesInAnyQuotingAndCase() {
+        Element document = HtmlParser.parse("<INPUT Type=text data-test='user name' disabled class=\"a  b\">");
+
+        Element input = document.selectFirst("input").orElseThrow();
+        assertEquals("text", input.attr("type"));
+        assertEquals("user name", input.attr("data-test"));
+        assertTrue(input.hasAttr("disabled"));
+        assertEquals("", input.attr("disabled"));
+        assertTrue(input.hasClass("b"));
+        assertNull(input.attr("id"));
+    }
+
+    @Test
+    void skipsCommentsAndToleratesStrayTags() {
+        Element document = HtmlParser.parse("<div><!-- <span>not here</span> --></p><span>a</span> 1 < 2</div>");
+
+        Element div = document.selectFirst("div").orElseThrow();
+        assertEquals(1, div.select("span").size());
+        assertEquals("a 1 < 2", div.text());
+    }
+
+    @Test
+    void blockElementsDoNotRunIntoEachOther() {
+        Element document = HtmlParser.parse("<div><div>Sauce Labs</div><div>Backpack</div></div><span>$</span><span>29.99</span>");
+
+        assertEquals("Sauce Labs Backpack $29.99", document.text());
+    }
+
+    @Test
+    void visibilityFollowsHiddenAncestorsAndInlineStyles() {
+        Element document = HtmlParser.parse(
+                "<div id=\"shown\"><span id=\"child\">x</span></div>"
+                        + "<div style=\"display: none\"><span id=\"inNone\">x</span></div>"
+                        + "<div hidden><span id=\"inHidden\">x</span></div>"
+                        + "<span id=\"invisible\" style=\"visibility:hidden\">x</span>");
+
+        assertTrue(document.selectFirst("#child").orElseThrow().isVisible());
+        assertFalse(document.selectFirst("#inNone").orElseThrow().isVisible());
+        assertFalse(document.selectFirst("#inHidden").orElseThrow().isVisible());
+        assertFalse(document.selectFirst("#invisible").orElseThrow().isVisible());
+    }
+}
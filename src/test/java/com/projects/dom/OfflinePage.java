@@ -0,0 +1,34 @@
+package com.projects.dom;
+
+/**
+ * The page read-only page-object queries answer from instead of the browser. Set per thread
+ * while a recorded snapshot is replayed; unset (the normal case) means the live browser.
+ */
+public final class OfflinePage {
+
+    private static final ThreadLocal<Element> document = new ThreadLocal<>();
+
+    private OfflinePage() {
+    }
+
+    public static void use(Element parsedDocument) {
+        document.set(parsedDocument);
+    }
+
+    public static void clear() {
+        document.remove();
+    }
+
+    public static boolean isActive() {
+        return document.get() != null;
+    }
+
+    /** The replayed document; only valid while {@link #isActive()}. */
+    public static Element current() {
+        Element current = document.get();
+        if (current == null) {
+            throw new IllegalStateException("❌ No offline page in use on this thread");
+        }
+        return current;
+    }
+}
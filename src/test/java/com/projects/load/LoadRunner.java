@@ -0,0 +1,132 @@
+package com.projects.load;
+
+import com.codeborne.selenide.Selenide;
+import com.projects.perf.LatencyHistogram;
+import com.projects.perf.RunReports;
+import com.projects.util.CheckoutInfo;
+import com.projects.util.TestDataLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drives concurrent browser sessions through {@link PurchaseJourney} against Configuration.baseUrl
+ * (the live site or the stand-in server). Sessions are started evenly over the ramp-up, then
+ * every session repeats the journey until the hold time is over.
+ *
+ * Configured with -Dload.sessions, -Dload.rampUpSeconds, -Dload.holdSeconds, -Dload.thinkTimeMillis,
+ * -Dload.users (testdata user keys, assigned to sessions round-robin) and -Dload.product.
+ * Reports throughput and latency percentiles per user and step.
+ */
+public class LoadRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadRunner.class);
+
+    private final int sessions = Integer.parseInt(System.getProperty("load.sessions", "5"));
+    private final long rampUpMillis = Long.parseLong(System.getProperty("load.rampUpSeconds", "10")) * 1000;
+    private final long holdMillis = Long.parseLong(System.getProperty("load.holdSeconds", "60")) * 1000;
+    private final long thinkTimeMillis = Long.parseLong(System.getProperty("load.thinkTimeMillis", "1000"));
+    private final List<String> users = Arrays.asList(System.getProperty("load.users", "standard_user").split(","));
+    private final String productKey = System.getProperty("load.product", "backpack");
+
+    private final Map<String, StepStats> steps = new ConcurrentHashMap<>();
+    private final AtomicLong completedJourneys = new AtomicLong();
+    private final AtomicLong failedJourneys = new AtomicLong();
+
+    /** Runs the load and returns the number of failed journeys. */
+    public long run() throws InterruptedException {
+        log.info("Load run: {} sessions, ramp-up {}s, hold {}s, think time {}ms, users {}",
+                sessions, rampUpMillis / 1000, holdMillis / 1000, thinkTimeMillis, users);
+
+        long start = System.currentTimeMillis();
+        long end = start + rampUpMillis + holdMillis;
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < sessions; i++) {
+            String userKey = users.get(i % users.size()).trim();
+            long startDelay = sessions > 1 ? rampUpMillis * i / sessions : 0;
+            Thread thread = new Thread(() -> session(userKey, start + startDelay, end), "load-session-" + i);
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        report((System.currentTimeMillis() - start) / 1000.0);
+        return failedJourneys.get();
+    }
+
+    private void session(String userKey, long startAt, long endAt) {
+        PurchaseJourney journey = new PurchaseJourney(
+                TestDataLoader.getUser(userKey),
+                TestDataLoader.getProduct(productKey),
+                TestDataLoader.getCheckoutInfo("valid"),
+                thinkTimeMillis,
+                (step, millis, succeeded) -> steps
+                        .computeIfAbsent(userKey + " | " + step, key -> new StepStats())
+                        .record(millis, succeeded));
+        try {
+            Thread.sleep(Math.max(0, startAt - System.currentTimeMillis()));
+            while (System.currentTimeMillis() < endAt) {
+                try {
+                    journey.run();
+                    completedJourneys.incrementAndGet();
+                } catch (InterruptedException e) {
+                    throw e;
+                } catch (Throwable e) {
+                    failedJourneys.incrementAndGet();
+                    log.warn("Journey failed for {}: {}", userKey, e.getMessage());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            Selenide.closeWebDriver();
+        }
+    }
+
+    private void report(double elapsedSeconds) {
+        Map<String, Object> stepReports = new LinkedHashMap<>();
+        steps.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> {
+                    Map<String, Object> summary = entry.getValue().latency.summary();
+                    summary.put("failures", entry.getValue().failures.get());
+                    summary.put("throughputPerSecond", Math.round(entry.getValue().latency.count() / elapsedSeconds * 100) / 100.0);
+                    stepReports.put(entry.getKey(), summary);
+                    log.info("  {}: {}", entry.getKey(), summary);
+                });
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("sessions", sessions);
+        report.put("rampUpSeconds", rampUpMillis / 1000);
+        report.put("holdSeconds", holdMillis / 1000);
+        report.put("thinkTimeMillis", thinkTimeMillis);
+        report.put("elapsedSeconds", elapsedSeconds);
+        report.put("completedJourneys", completedJourneys.get());
+        report.put("failedJourneys", failedJourneys.get());
+        report.put("steps", stepReports);
+        log.info("Load run finished: {} journeys completed, {} failed in {}s",
+                completedJourneys.get(), failedJourneys.get(), elapsedSeconds);
+        RunReports.publish("Load test", "load-report.json", report);
+    }
+
+    private static final class StepStats {
+        final LatencyHistogram latency = new LatencyHistogram();
+        final AtomicLong failures = new AtomicLong();
+
+        void record(long millis, boolean succeeded) {
+            latency.record(millis);
+            if (!succeeded) {
+                failures.incrementAndGet();
+            }
+        }
+    }
+}
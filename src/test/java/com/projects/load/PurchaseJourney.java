@@ -0,0 +1,83 @@
+package com.projects.load;
+
+import com.projects.pages.CartPage;
+import com.projects.pages.CheckoutPage;
+import com.projects.pages.LoginPage;
+import com.projects.pages.ProductsPage;
+import com.projects.util.CheckoutInfo;
+import com.projects.util.User;
+
+import static com.codeborne.selenide.Selenide.clearBrowserCookies;
+import static com.codeborne.selenide.Selenide.clearBrowserLocalStorage;
+
+/**
+ * The RegressionTest purchase flow (login, add to cart, cart, checkout, finish) split into
+ * named steps so a load run can time each one. Uses the regular page objects and the UI
+ * login, because the login itself is part of what is being measured.
+ */
+public class PurchaseJourney {
+
+    /** Receives the duration of every step, failed or not. */
+    public interface StepListener {
+        void onStep(String step, long millis, boolean succeeded);
+    }
+
+    private final LoginPage login = new LoginPage();
+    private final ProductsPage products = new ProductsPage();
+    private final CartPage cart = new CartPage();
+    private final CheckoutPage checkout = new CheckoutPage();
+
+    private final User user;
+    private final String product;
+    private final CheckoutInfo checkoutInfo;
+    private final long thinkTimeMillis;
+    private final StepListener listener;
+
+    public PurchaseJourney(User user, String product, CheckoutInfo checkoutInfo, long thinkTimeMillis, StepListener listener) {
+        this.user = user;
+        this.product = product;
+        this.checkoutInfo = checkoutInfo;
+        this.thinkTimeMillis = thinkTimeMillis;
+        this.listener = listener;
+    }
+
+    /** One full purchase. Stops at the first failing step and rethrows its error. */
+    public void run() throws InterruptedException {
+        step("open login", () -> {
+            login.openLogin();
+            // Start every iteration logged out with an empty cart
+            clearBrowserCookies();
+            clearBrowserLocalStorage();
+        });
+        step("login", () -> {
+            login.loginAs(user);
+            login.shouldSeeProductsPage();
+        });
+        step("add to cart", () -> products.addProductToCart(product));
+        step("open cart", () -> {
+            products.openCart();
+            cart.shouldBeVisible();
+        });
+        step("checkout", cart::checkout);
+        step("fill information", () -> checkout.fillInformation(
+                checkoutInfo.getFirstName(), checkoutInfo.getLastName(), checkoutInfo.getPostalCode()));
+        step("finish", () -> {
+            checkout.finish();
+            checkout.assertOrderComplete();
+        });
+    }
+
+    private void step(String name, Runnable action) throws InterruptedException {
+        long start = System.nanoTime();
+        boolean succeeded = false;
+        try {
+            action.run();
+            succeeded = true;
+        } finally {
+            listener.onStep(name, (System.nanoTime() - start) / 1_000_000, succeeded);
+        }
+        if (thinkTimeMillis > 0) {
+            Thread.sleep(thinkTimeMillis);
+        }
+    }
+}
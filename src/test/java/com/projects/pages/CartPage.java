@@ -1,11 +1,42 @@
 package com.projects.pages;
 
+import com.projects.perf.FrontEndTimings;
+import com.projects.util.TestDataLoader;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
 import static com.codeborne.selenide.Selenide.*;
 import static com.codeborne.selenide.Condition.*;
 
 public class CartPage {
 
+    // The app keeps the cart as a JSON array of product ids in localStorage
+    private static final String CART_STORAGE_KEY = "cart-contents";
+
+    // Writes the cart straight into storage and opens it, skipping the "Add to cart" clicks.
+    // Needs an app page (e.g. the inventory after login) to be open already.
+    public void seed(List<String> productKeys) {
+        String ids = productKeys.stream()
+                .map(key -> String.valueOf(TestDataLoader.getProductId(key)))
+                .collect(Collectors.joining(",", "[", "]"));
+        localStorage().setItem(CART_STORAGE_KEY, ids);
+        open("/cart.html");
+        shouldBeVisible();
+    }
+
+    // Empties the cart in storage; the page shows it after the next navigation
+    public void clear() {
+        localStorage().removeItem(CART_STORAGE_KEY);
+    }
+
     public void addItemToCart(String productName) {
+        Optional<InventorySnapshot.Item> item = InventorySnapshot.current().inventoryItem(productName);
+        if (item.isPresent()) {
+            $$("div.inventory_item").get(item.get().getIndex()).$("button.btn_inventory").click();
+            return;
+        }
         $$("div.inventory_item")
                 .findBy(text(productName))
                 .$("button.btn_inventory")
@@ -13,10 +44,19 @@ public class CartPage {
     }
 
     public void removeItemFromCart(String productName) {
-        $$("div.inventory_item, .cart_item")
-                .findBy(text(productName))
-                .$("button")
-                .click();
+        InventorySnapshot snapshot = InventorySnapshot.current();
+        Optional<InventorySnapshot.Item> onInventory = snapshot.inventoryItem(productName);
+        Optional<InventorySnapshot.Item> inCart = snapshot.cartItem(productName);
+        if (onInventory.isPresent()) {
+            $$("div.inventory_item").get(onInventory.get().getIndex()).$("button").click();
+        } else if (inCart.isPresent()) {
+            $$(".cart_item").get(inCart.get().getIndex()).$("button").click();
+        } else {
+            $$("div.inventory_item, .cart_item")
+                    .findBy(text(productName))
+                    .$("button")
+                    .click();
+        }
     }
 
     public void goToCart() {
@@ -24,16 +64,19 @@ public class CartPage {
     }
 
     public boolean isItemInCart(String productName) {
-        return $$(".cart_item").findBy(text(productName)).is(visible);
+        return InventorySnapshot.current().cartItem(productName)
+                .map(InventorySnapshot.Item::isVisible)
+                .orElse(false);
     }
 
     public String getCartBadgeCount() {
-        return $("#shopping_cart_container .shopping_cart_badge").getText();
+        String count = InventorySnapshot.current().badgeCount();
+        // No badge yet: let Selenide wait for it as before
+        return count != null ? count : PageQueries.getText("#shopping_cart_container .shopping_cart_badge");
     }
 
     public boolean isCartBadgeGone() {
-        return $$("#shopping_cart_container .shopping_cart_badge").isEmpty()
-                || !$("#shopping_cart_container .shopping_cart_badge").isDisplayed();
+        return InventorySnapshot.current().badgeCount() == null;
     }
 
     public void checkout() {
@@ -41,6 +84,7 @@ public class CartPage {
     }
 
     public void shouldBeVisible() {
-        $(".cart_list").should(appear);
+        $(".cart_list").should(appear, DomWait.untilVisible(".cart_list"));
+        FrontEndTimings.capture("cart");
     }
 }
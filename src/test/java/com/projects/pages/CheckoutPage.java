@@ -1,15 +1,29 @@
 package com.projects.pages;
 
+import com.projects.perf.FrontEndTimings;
+
+import java.util.List;
+import java.util.Map;
+
 import static com.codeborne.selenide.Selenide.*;
 import static com.codeborne.selenide.Condition.*;
 
 public class CheckoutPage {
 
+    private boolean batchForms = Forms.BATCHED_BY_DEFAULT;
+
+    // Fill the information form in one script call instead of field by field
+    public CheckoutPage batchForms(boolean batched) {
+        this.batchForms = batched;
+        return this;
+    }
+
     public void fillInformation(String firstName, String lastName, String postalCode) {
-        $("#first-name").setValue(firstName);
-        $("#last-name").setValue(lastName);
-        $("#postal-code").setValue(postalCode);
-        $("#continue").click();
+        Forms.fillAndSubmit(List.of(
+                Map.entry("#first-name", firstName),
+                Map.entry("#last-name", lastName),
+                Map.entry("#postal-code", postalCode)
+        ), "#continue", batchForms);
     }
 
     public void finish() {
@@ -17,15 +31,16 @@ public class CheckoutPage {
     }
 
     public void assertOrderComplete() {
-        $(".complete-header").shouldHave(text("THANK YOU FOR YOUR ORDER"));
+        $(".complete-header").shouldHave(text("THANK YOU FOR YOUR ORDER"), DomWait.untilText(".complete-header", "THANK YOU FOR YOUR ORDER"));
+        FrontEndTimings.capture("checkout-complete");
     }
 
     public boolean isOrderComplete() {
-        return $(".complete-header").has(text("THANK YOU FOR YOUR ORDER"));
+        return PageQueries.hasText(".complete-header", "THANK YOU FOR YOUR ORDER");
     }
 
     public void shouldSeeError(String expectedError) {
-        $(".error-message-container").shouldHave(text(expectedError));
+        $(".error-message-container").shouldHave(text(expectedError), DomWait.untilText(".error-message-container", expectedError));
     }
 
     public void cancel() {
@@ -33,10 +48,10 @@ public class CheckoutPage {
     }
 
     public boolean isOrderCompleteDisplayed() {
-        return $(".complete-header").has(text("THANK YOU FOR YOUR ORDER"));
+        return PageQueries.hasText(".complete-header", "THANK YOU FOR YOUR ORDER");
     }
 
     public boolean isErrorDisplayed(String expectedError) {
-        return $(".error-message-container").has(text(expectedError));
+        return PageQueries.hasText(".error-message-container", expectedError);
     }
 }
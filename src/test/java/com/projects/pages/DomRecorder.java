@@ -0,0 +1,62 @@
+package com.projects.pages;
+
+import com.codeborne.selenide.WebDriverRunner;
+import com.codeborne.selenide.logevents.LogEvent;
+import com.codeborne.selenide.logevents.LogEventListener;
+import com.projects.dom.DomSnapshots;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+
+import static com.codeborne.selenide.Selenide.executeJavaScript;
+
+/**
+ * With -DdomSnapshots=record, stores the page after every Selenide step that can change it,
+ * together with the {@link PageProbe} answers, so page-object queries can later be replayed
+ * offline. The probe adds browser round trips: keep recording runs out of timing comparisons.
+ *
+ * A page that changes while it is being probed (a navigation still in flight, an animation)
+ * is skipped, so every recorded answer belongs to exactly the recorded HTML.
+ */
+public class DomRecorder implements LogEventListener {
+
+    private static final Logger log = LoggerFactory.getLogger(DomRecorder.class);
+
+    private static final String OUTER_HTML = "return document.documentElement.outerHTML;";
+
+    // The probe's own Selenide calls come back through this listener
+    private static final ThreadLocal<Boolean> probing = ThreadLocal.withInitial(() -> false);
+
+    public static boolean isEnabled() {
+        return DomSnapshots.isRecording();
+    }
+
+    @Override
+    public void beforeEvent(LogEvent currentLog) {
+    }
+
+    @Override
+    public void afterEvent(LogEvent currentLog) {
+        if (probing.get() || !InventorySnapshot.isMutating(currentLog) || !WebDriverRunner.hasWebDriverStarted()) {
+            return;
+        }
+        probing.set(true);
+        try {
+            String before = executeJavaScript(OUTER_HTML);
+            Map<String, Object> answers = PageProbe.answers();
+            String after = executeJavaScript(OUTER_HTML);
+            String step = currentLog.getElement() + " " + currentLog.getSubject();
+            if (before != null && before.equals(after)) {
+                DomSnapshots.record(before, WebDriverRunner.url(), step, answers);
+            } else {
+                log.debug("Page changed while probing after '{}', not recorded", step);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not record DOM snapshot: {}", e.getMessage());
+        } finally {
+            probing.set(false);
+            InventorySnapshot.invalidate();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.projects.pages;
+
+import com.codeborne.selenide.WebDriverRunner;
+import com.projects.base.Drivers;
+import com.projects.perf.AdaptiveTimeouts;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Waits for an element to be visible (and optionally contain a text) with one async script:
+ * the page checks the condition, and if it does not hold yet, re-checks it on every DOM
+ * mutation through a MutationObserver, answering as soon as it holds instead of on the next
+ * polling tick. Page objects pass the returned timeout to their usual Selenide assertion, which
+ * then passes or fails on its first check and keeps the regular error message and Allure step.
+ * Wait timeouts come from {@link AdaptiveTimeouts}, which is fed with the measured wait times
+ * and with the waits that timed out.
+ * -DeventWaits=false turns it off and leaves the waiting to Selenide.
+ */
+final class DomWait {
+
+    private static final Logger log = LoggerFactory.getLogger(DomWait.class);
+
+    static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("eventWaits", "true"));
+
+    // Visibility as in isDisplayed: laid out and not hidden; text as in Selenide's text(): case-insensitive substring
+    private static final String WAIT_SCRIPT =
+            "var selector = arguments[0], text = arguments[1], timeout = arguments[2];" +
+            "var done = arguments[arguments.length - 1];" +
+            "function holds() {" +
+            "  var el = document.querySelector(selector);" +
+            "  if (!el || el.getClientRects().length === 0 || getComputedStyle(el).visibility === 'hidden') { return false; }" +
+            "  return text === null || (el.innerText || '').replace(/\\s+/g, ' ').toLowerCase().indexOf(text) >= 0;" +
+            "}" +
+            "if (holds()) { done(true); return; }" +
+            "var finished = false, timer;" +
+            "var observer = new MutationObserver(function () { if (!finished && holds()) { finish(true); } });" +
+            "function finish(result) { finished = true; observer.disconnect(); clearTimeout(timer); done(result); }" +
+            "timer = setTimeout(function () { finish(holds()); }, timeout);" +
+            "observer.observe(document.documentElement, {childList: true, subtree: true, attributes: true, characterData: true});";
+
+    // Read once per driver: asking on every wait would add a round trip to each one
+    private static final Map<WebDriver, Duration> scriptTimeouts = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private DomWait() {
+    }
+
+    /** Waits until the element is visible; returns the timeout left for the Selenide assertion that follows. */
+    static Duration untilVisible(String cssSelector) {
+        return until(cssSelector + " visible", cssSelector, null);
+    }
+
+    static Duration untilText(String cssSelector, String text) {
+        return until(cssSelector + " has text", cssSelector, text.replaceAll("\\s+", " ").trim().toLowerCase(Locale.ROOT));
+    }
+
+    // Met or timed out in the page: the assertion checks once. Script not usable: it polls with the full timeout.
+    private static Duration until(String wait, String cssSelector, String text) {
+        Duration timeout = AdaptiveTimeouts.timeoutFor(wait);
+        if (!ENABLED || !WebDriverRunner.hasWebDriverStarted()) {
+            return timeout;
+        }
+        WebDriver driver = WebDriverRunner.getWebDriver();
+        Duration scriptTimeout = scriptTimeouts.computeIfAbsent(Drivers.unwrap(driver),
+                key -> driver.manage().timeouts().getScriptTimeout());
+        // Leave the driver a second to deliver the result before its own script timeout
+        if (timeout.toMillis() > scriptTimeout.toMillis() - 1000) {
+            return timeout;
+        }
+        long start = System.nanoTime();
+        try {
+            if (Boolean.TRUE.equals(((JavascriptExecutor) driver).executeAsyncScript(WAIT_SCRIPT, cssSelector, text, timeout.toMillis()))) {
+                AdaptiveTimeouts.record(wait, (System.nanoTime() - start) / 1_000_000);
+            } else {
+                AdaptiveTimeouts.recordTimeout(wait, timeout.toMillis());
+            }
+            return Duration.ZERO;
+        } catch (WebDriverException e) {
+            // e.g. the page navigated away while waiting: fall back to Selenide's polling
+            log.debug("Event wait for '{}' failed, falling back to polling: {}", cssSelector, e.getMessage());
+            return timeout;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.projects.pages;
+
+import com.codeborne.selenide.logevents.SelenideLogger;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.codeborne.selenide.Selenide.$;
+import static com.codeborne.selenide.Selenide.executeJavaScript;
+
+/**
+ * Fills form fields and submits, either field by field through Selenide or, when batched,
+ * in a single script call. The batched path sets values through the native setter and
+ * fires input/change so React sees them like typed text.
+ * -DbatchForms=true makes batching the default, page objects can override it per instance.
+ */
+final class Forms {
+
+    static final boolean BATCHED_BY_DEFAULT = Boolean.parseBoolean(System.getProperty("batchForms", "false"));
+
+    private static final String FILL_SCRIPT =
+            "var fields = arguments[0], submit = arguments[1];" +
+            "var elements = fields.map(function (f) { return document.querySelector(f[0]); });" +
+            "var button = document.querySelector(submit);" +
+            "if (!button || elements.some(function (el) { return !el; })) { return false; }" +
+            "var setter = Object.getOwnPropertyDescriptor(HTMLInputElement.prototype, 'value').set;" +
+            "fields.forEach(function (f, i) {" +
+            "  var el = elements[i];" +
+            "  el.focus();" +
+            "  setter.call(el, f[1]);" +
+            "  el.dispatchEvent(new Event('input', {bubbles: true}));" +
+            "  el.dispatchEvent(new Event('change', {bubbles: true}));" +
+            "  el.blur();" +
+            "});" +
+            "button.click();" +
+            "return true;";
+
+    private Forms() {
+    }
+
+    /** Fields are selector → value, filled in the given order, then the submit button is clicked. */
+    static void fillAndSubmit(List<Map.Entry<String, String>> fields, String submitSelector, boolean batched) {
+        if (batched) {
+            List<List<String>> args = fields.stream()
+                    .map(field -> List.of(field.getKey(), field.getValue()))
+                    .collect(Collectors.toList());
+            String selectors = fields.stream().map(Map.Entry::getKey).collect(Collectors.joining(", "));
+            Boolean filled = SelenideLogger.get("fill form", selectors,
+                    () -> executeJavaScript(FILL_SCRIPT, args, submitSelector));
+            if (Boolean.TRUE.equals(filled)) {
+                return;
+            }
+            // Form not rendered yet: the Selenide path below waits for it
+        }
+        fields.forEach(field -> $(field.getKey()).setValue(field.getValue()));
+        $(submitSelector).click();
+    }
+}
@@ -0,0 +1,215 @@
+package com.projects.pages;
+
+import com.codeborne.selenide.logevents.LogEvent;
+import com.codeborne.selenide.logevents.LogEventListener;
+import com.codeborne.selenide.logevents.SelenideLogger;
+import com.projects.dom.Element;
+import com.projects.dom.OfflinePage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.codeborne.selenide.Selenide.executeJavaScript;
+
+/**
+ * Immutable picture of the product list, the cart list and the cart badge, read with a
+ * single JavaScript call. Read-only page-object queries are answered from it instead of
+ * scanning the DOM item by item.
+ *
+ * The snapshot is cached per thread (one browser per thread) and dropped as soon as
+ * Selenide performs anything that can change the page: a click, a value change, a navigation.
+ * While an {@link OfflinePage} is in use the same picture is read from the replayed snapshot.
+ */
+public final class InventorySnapshot {
+
+    // Read by both SCRIPT (passed as its arguments) and the offline read(Element)
+    private static final String INVENTORY_ITEM = "div.inventory_item";
+    private static final String CART_ITEM = ".cart_item";
+    private static final String ITEM_NAME = ".inventory_item_name";
+    private static final String ITEM_PRICE = ".inventory_item_price";
+    private static final String ITEM_BUTTON = "button";
+    private static final String CART_BADGE = "#shopping_cart_container .shopping_cart_badge";
+
+    private static final String SCRIPT =
+            "var inventorySelector = arguments[0], cartSelector = arguments[1], nameSelector = arguments[2]," +
+            "    priceSelector = arguments[3], buttonSelector = arguments[4], badgeSelector = arguments[5];" +
+            "function read(el) {" +
+            "  var name = el.querySelector(nameSelector);" +
+            "  var price = el.querySelector(priceSelector);" +
+            "  var button = el.querySelector(buttonSelector);" +
+            "  return {name: name ? name.textContent.trim() : el.textContent.trim()," +
+            "          price: price ? price.textContent.trim() : null," +
+            "          button: button ? button.textContent.trim() : null," +
+            "          visible: el.getClientRects().length > 0};" +
+            "}" +
+            "var badge = document.querySelector(badgeSelector);" +
+            "return {" +
+            "  inventory: Array.prototype.map.call(document.querySelectorAll(inventorySelector), read)," +
+            "  cart: Array.prototype.map.call(document.querySelectorAll(cartSelector), read)," +
+            "  badge: badge && badge.getClientRects().length > 0 ? badge.textContent.trim() : null" +
+            "};";
+
+    private static final String INVALIDATOR = "InventorySnapshot";
+    private static final List<String> MUTATING_ACTIONS = List.of(
+            "click", "doubleclick", "contextclick", "setvalue", "val", "append", "press", "clear", "type",
+            "select", "upload", "draganddrop", "open", "refresh", "back", "forward", "executejavascript", "fillform");
+
+    private static final ThreadLocal<InventorySnapshot> current = new ThreadLocal<>();
+
+    private final List<Item> inventory;
+    private final List<Item> cart;
+    private final String badgeCount;
+
+    private InventorySnapshot(List<Item> inventory, List<Item> cart, String badgeCount) {
+        this.inventory = inventory;
+        this.cart = cart;
+        this.badgeCount = badgeCount;
+    }
+
+    /** The cached snapshot of the current page, captured on first use. */
+    public static InventorySnapshot current() {
+        InventorySnapshot snapshot = current.get();
+        if (snapshot == null) {
+            snapshot = capture();
+            current.set(snapshot);
+        }
+        return snapshot;
+    }
+
+    public static void invalidate() {
+        current.remove();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static InventorySnapshot capture() {
+        if (OfflinePage.isActive()) {
+            return read(OfflinePage.current());
+        }
+        if (!SelenideLogger.hasListener(INVALIDATOR)) {
+            SelenideLogger.addListener(INVALIDATOR, new Invalidator());
+        }
+        Map<String, Object> page = executeJavaScript(SCRIPT,
+                INVENTORY_ITEM, CART_ITEM, ITEM_NAME, ITEM_PRICE, ITEM_BUTTON, CART_BADGE);
+        return new InventorySnapshot(
+                items((List<Map<String, Object>>) page.get("inventory")),
+                items((List<Map<String, Object>>) page.get("cart")),
+                (String) page.get("badge"));
+    }
+
+    // Same reads as SCRIPT, against a replayed snapshot
+    private static InventorySnapshot read(Element document) {
+        Optional<Element> badge = document.selectFirst(CART_BADGE).filter(Element::isVisible);
+        return new InventorySnapshot(
+                offlineItems(document.select(INVENTORY_ITEM)),
+                offlineItems(document.select(CART_ITEM)),
+                badge.map(Element::text).orElse(null));
+    }
+
+    private static List<Item> offlineItems(List<Element> elements) {
+        List<Item> items = new ArrayList<>();
+        for (Element element : elements) {
+            items.add(new Item(items.size(),
+                    element.selectFirst(ITEM_NAME).orElse(element).text(),
+                    element.selectFirst(ITEM_PRICE).map(Element::text).orElse(null),
+                    element.selectFirst(ITEM_BUTTON).map(Element::text).orElse(null),
+                    element.isVisible()));
+        }
+        return Collections.unmodifiableList(items);
+    }
+
+    private static List<Item> items(List<Map<String, Object>> raw) {
+        List<Item> items = new ArrayList<>();
+        for (Map<String, Object> item : raw) {
+            items.add(new Item(items.size(), (String) item.get("name"), (String) item.get("price"),
+                    (String) item.get("button"), Boolean.TRUE.equals(item.get("visible"))));
+        }
+        return Collections.unmodifiableList(items);
+    }
+
+    /** Items of div.inventory_item, in page order. */
+    public List<Item> inventory() {
+        return inventory;
+    }
+
+    /** Items of .cart_item, in page order. */
+    public List<Item> cart() {
+        return cart;
+    }
+
+    /** Same matching as findBy(text(...)): case-insensitive substring of the name. */
+    public Optional<Item> inventoryItem(String productName) {
+        return find(inventory, productName);
+    }
+
+    public Optional<Item> cartItem(String productName) {
+        return find(cart, productName);
+    }
+
+    /** Text of the visible cart badge, or null when there is none. */
+    public String badgeCount() {
+        return badgeCount;
+    }
+
+    private static Optional<Item> find(List<Item> items, String productName) {
+        String wanted = productName.toLowerCase(Locale.ROOT);
+        return items.stream()
+                .filter(item -> item.name.toLowerCase(Locale.ROOT).contains(wanted))
+                .findFirst();
+    }
+
+    public static final class Item {
+        private final int index;
+        private final String name;
+        private final String price;
+        private final String buttonText;
+        private final boolean visible;
+
+        Item(int index, String name, String price, String buttonText, boolean visible) {
+            this.index = index;
+            this.name = name;
+            this.price = price;
+            this.buttonText = buttonText;
+            this.visible = visible;
+        }
+
+        /** Position in its collection, usable with $$(...).get(index). */
+        public int getIndex() { return index; }
+        public String getName() { return name; }
+        public String getPrice() { return price; }
+        public String getButtonText() { return buttonText; }
+        public boolean isVisible() { return visible; }
+        public boolean isAddedToCart() { return "Remove".equalsIgnoreCase(buttonText); }
+    }
+
+    // Drops the snapshot whenever Selenide does something that can change the page
+    private static final class Invalidator implements LogEventListener {
+        @Override
+        public void beforeEvent(LogEvent currentLog) {
+        }
+
+        @Override
+        public void afterEvent(LogEvent currentLog) {
+            if (isMutating(currentLog)) {
+                invalidate();
+            }
+        }
+    }
+
+    /** Whether the logged Selenide step can change the page. */
+    static boolean isMutating(LogEvent event) {
+        // Element actions carry the action in the subject, open() and friends in the element
+        return isMutating(event.getSubject()) || isMutating(event.getElement());
+    }
+
+    private static boolean isMutating(String text) {
+        if (text == null) {
+            return false;
+        }
+        String action = text.replace(" ", "").toLowerCase(Locale.ROOT);
+        return MUTATING_ACTIONS.stream().anyMatch(action::startsWith);
+    }
+}
@@ -1,6 +1,20 @@
 package com.projects.pages;
 
+import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.WebDriverRunner;
+import com.projects.perf.AdaptiveTimeouts;
+import com.projects.perf.FrontEndTimings;
+import com.projects.util.TestDataLoader;
 import com.projects.util.User;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 
 import static com.codeborne.selenide.Condition.text;
 import static com.codeborne.selenide.Condition.visible;
@@ -8,14 +22,32 @@ import static com.codeborne.selenide.Selenide.$;
 import static com.codeborne.selenide.Selenide.open;
 
 public class LoginPage {
+
+    private static final Logger log = LoggerFactory.getLogger(LoginPage.class);
+
+    // -DfastLogin=false forces every test back through the login form
+    private static final boolean FAST_LOGIN = Boolean.parseBoolean(System.getProperty("fastLogin", "true"));
+    private static final String INVENTORY_PATH = "/inventory.html";
+
+    private boolean batchForms = Forms.BATCHED_BY_DEFAULT;
+
     public void openLogin() {
         open("/"); // uses baseUrl from Configuration
     }
 
+    // Fill the login form in one script call instead of field by field
+    public LoginPage batchForms(boolean batched) {
+        this.batchForms = batched;
+        return this;
+    }
+
     public void loginAs(String username, String password) {
-        $("#user-name").setValue(username);
-        $("#password").setValue(password);
-        $("#login-button").click();
+        // Waits from here on are timed for this user
+        AdaptiveTimeouts.actAs(username);
+        Forms.fillAndSubmit(List.of(
+                Map.entry("#user-name", username),
+                Map.entry("#password", password)
+        ), "#login-button", batchForms);
     }
 
     // Overload: accept User from TestDataLoader
@@ -23,20 +55,65 @@ public class LoginPage {
         loginAs(user.getUsername(), user.getPassword());
     }
 
+    // Plants the app's session cookie and opens the inventory directly.
+    // Falls back to the login form for users the app would reject or if the session isn't accepted.
+    public void loginFast(User user) {
+        AdaptiveTimeouts.actAs(user.getUsername());
+        if (FAST_LOGIN && TestDataLoader.canInjectSession(user)) {
+            injectSession(user.getUsername());
+            if (openInventory()) {
+                return;
+            }
+            log.warn("Session injection was not accepted for '{}', using the login form", user.getUsername());
+        }
+        openLogin();
+        loginAs(user);
+    }
+
+    // Whether the browser still holds the app's session cookie for this user
+    public boolean hasSession(User user) {
+        if (!WebDriverRunner.hasWebDriverStarted()) {
+            return false;
+        }
+        Cookie cookie = WebDriverRunner.getWebDriver().manage().getCookieNamed(TestDataLoader.getSessionCookie());
+        return cookie != null && cookie.getValue().equals(user.getUsername());
+    }
+
+    // Opens the inventory and tells whether the app let us in
+    public boolean openInventory() {
+        open(INVENTORY_PATH);
+        return $("#inventory_container").is(visible, Duration.ofSeconds(2));
+    }
+
+    private void injectSession(String username) {
+        String cookie = TestDataLoader.getSessionCookie();
+        WebDriver driver = WebDriverRunner.getWebDriver();
+
+        // Chrome can set the cookie before the first navigation, others need the origin loaded first
+        if (driver instanceof HasCdp cdp) {
+            cdp.executeCdpCommand("Network.setCookie",
+                    Map.of("name", cookie, "value", username, "url", Configuration.baseUrl));
+        } else {
+            openLogin();
+            driver.manage().addCookie(new Cookie(cookie, username, "/"));
+        }
+    }
+
     public void shouldSeeProductsPage() {
-        $("#inventory_container").shouldBe(visible);
+        $("#inventory_container").shouldBe(visible, DomWait.untilVisible("#inventory_container"));
+        FrontEndTimings.capture("inventory");
     }
 
     public void shouldSeeError(String expectedError) {
-        $(".error-message-container").shouldHave(text(expectedError));
+        $(".error-message-container").shouldHave(text(expectedError), DomWait.untilText(".error-message-container", expectedError));
     }
 
     public boolean isProductsPageDisplayed() {
-        return $("#inventory_container").is(visible);
+        return PageQueries.isVisible("#inventory_container");
     }
 
     public boolean isErrorDisplayed(String expectedError) {
-        return $(".error-message-container").has(text(expectedError));
+        return PageQueries.hasText(".error-message-container", expectedError);
     }
 
 }
@@ -0,0 +1,44 @@
+package com.projects.pages;
+
+import com.projects.util.TestDataLoader;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Asks every read-only page-object query about the current page, for every product and
+ * error message in the test data. Answers are keyed by "Page.query(argument)", so a snapshot
+ * recorded in the browser and its offline replay can be compared entry by entry.
+ */
+public final class PageProbe {
+
+    private PageProbe() {
+    }
+
+    public static Map<String, Object> answers() {
+        LoginPage loginPage = new LoginPage();
+        ProductsPage productsPage = new ProductsPage();
+        CartPage cartPage = new CartPage();
+        CheckoutPage checkoutPage = new CheckoutPage();
+
+        Map<String, Object> answers = new TreeMap<>();
+        answers.put("LoginPage.isProductsPageDisplayed()", loginPage.isProductsPageDisplayed());
+        answers.put("CheckoutPage.isOrderComplete()", checkoutPage.isOrderComplete());
+        for (String error : TestDataLoader.getErrorMessages()) {
+            answers.put("LoginPage.isErrorDisplayed(" + error + ")", loginPage.isErrorDisplayed(error));
+            answers.put("CheckoutPage.isErrorDisplayed(" + error + ")", checkoutPage.isErrorDisplayed(error));
+        }
+        for (String product : TestDataLoader.getProductNames()) {
+            answers.put("ProductsPage.isProductDisplayed(" + product + ")", productsPage.isProductDisplayed(product));
+            answers.put("ProductsPage.isProductInCart(" + product + ")", productsPage.isProductInCart(product));
+            answers.put("CartPage.isItemInCart(" + product + ")", cartPage.isItemInCart(product));
+        }
+        boolean badgeGone = cartPage.isCartBadgeGone();
+        answers.put("CartPage.isCartBadgeGone()", badgeGone);
+        // getCartBadgeCount() waits for a badge that isn't there
+        if (!badgeGone) {
+            answers.put("CartPage.getCartBadgeCount()", cartPage.getCartBadgeCount());
+        }
+        return answers;
+    }
+}
@@ -0,0 +1,53 @@
+package com.projects.pages;
+
+import com.projects.dom.Element;
+import com.projects.dom.OfflinePage;
+
+import java.util.Locale;
+import java.util.Optional;
+
+import static com.codeborne.selenide.Condition.text;
+import static com.codeborne.selenide.Condition.visible;
+import static com.codeborne.selenide.Selenide.$;
+
+/**
+ * Single-element reads shared by the page objects. They go to the browser as usual, or to
+ * the replayed snapshot while an {@link OfflinePage} is in use.
+ */
+final class PageQueries {
+
+    private PageQueries() {
+    }
+
+    static boolean isVisible(String css) {
+        if (OfflinePage.isActive()) {
+            return first(css).map(Element::isVisible).orElse(false);
+        }
+        return $(css).is(visible);
+    }
+
+    // Same matching as Selenide's text(): case-insensitive substring of the visible text
+    static boolean hasText(String css, String expected) {
+        if (OfflinePage.isActive()) {
+            String wanted = expected.toLowerCase(Locale.ROOT);
+            return first(css)
+                    .filter(Element::isVisible)
+                    .map(element -> element.text().toLowerCase(Locale.ROOT).contains(wanted))
+                    .orElse(false);
+        }
+        return $(css).has(text(expected));
+    }
+
+    static String getText(String css) {
+        if (OfflinePage.isActive()) {
+            return first(css)
+                    .map(Element::text)
+                    .orElseThrow(() -> new IllegalStateException("❌ No element '" + css + "' in the offline page"));
+        }
+        return $(css).getText();
+    }
+
+    private static Optional<Element> first(String css) {
+        return OfflinePage.current().selectFirst(css);
+    }
+}
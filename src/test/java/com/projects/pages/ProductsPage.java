@@ -1,5 +1,9 @@
 package com.projects.pages;
 
+import com.projects.perf.FrontEndTimings;
+
+import java.util.Optional;
+
 import static com.codeborne.selenide.Selenide.*;
 import static com.codeborne.selenide.Condition.*;
 
@@ -10,6 +14,12 @@ public class ProductsPage {
     }
 
     public void addProductToCart(String productName) {
+        // Click by position from the snapshot; scan by text only if the list isn't rendered yet
+        Optional<InventorySnapshot.Item> item = InventorySnapshot.current().inventoryItem(productName);
+        if (item.isPresent()) {
+            $$("div.inventory_item").get(item.get().getIndex()).$("button.btn_inventory").click();
+            return;
+        }
         $$("div.inventory_item")
                 .findBy(text(productName))
                 .$("button.btn_inventory")
@@ -21,17 +31,19 @@ public class ProductsPage {
     }
 
     public boolean isProductDisplayed(String productName) {
-        return $$("div.inventory_item").findBy(text(productName)).is(visible);
+        return InventorySnapshot.current().inventoryItem(productName)
+                .map(InventorySnapshot.Item::isVisible)
+                .orElse(false);
     }
 
     public boolean isProductInCart(String productName) {
-        return $$("div.inventory_item")
-                .findBy(text(productName))
-                .$("button.btn_inventory")
-                .has(text("Remove"));
+        return InventorySnapshot.current().inventoryItem(productName)
+                .map(InventorySnapshot.Item::isAddedToCart)
+                .orElse(false);
     }
 
     public void shouldBeVisible() {
-        $(".inventory_list").should(appear);
+        $(".inventory_list").should(appear, DomWait.untilVisible(".inventory_list"));
+        FrontEndTimings.capture("inventory");
     }
 }
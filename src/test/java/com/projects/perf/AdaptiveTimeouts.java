@@ -0,0 +1,146 @@
+package com.projects.perf;
+
+import com.codeborne.selenide.Configuration;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-wait timeouts learned from how long each wait actually took, e.g. "#inventory_container
+ * visible". Waits are kept apart per Configuration.baseUrl and per logged-in user (see
+ * {@link #actAs(String)}), so a slow environment or performance_glitch_user does not share
+ * samples with a fast one. Once a wait has -DadaptiveTimeouts.minSamples samples its timeout becomes
+ * p99 × -DadaptiveTimeouts.factor, kept between -DadaptiveTimeouts.floor and
+ * -DadaptiveTimeouts.ceiling (ms); before that Configuration.timeout applies. A wait that times
+ * out drops the older samples, so it is back on Configuration.timeout until it is learned again.
+ *
+ * The latest samples of each wait are kept across runs in -DwaitStats (default
+ * wait-stats.json in the working directory) and written back when the JVM exits.
+ * -DadaptiveTimeouts=false always uses Configuration.timeout.
+ */
+public final class AdaptiveTimeouts {
+
+    private static final Logger log = LoggerFactory.getLogger(AdaptiveTimeouts.class);
+    private static final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("adaptiveTimeouts", "true"));
+    private static final Path FILE = Paths.get(System.getProperty("waitStats", "wait-stats.json"));
+    private static final int MIN_SAMPLES = Integer.parseInt(System.getProperty("adaptiveTimeouts.minSamples", "20"));
+    private static final double FACTOR = Double.parseDouble(System.getProperty("adaptiveTimeouts.factor", "3"));
+    private static final long FLOOR = Long.parseLong(System.getProperty("adaptiveTimeouts.floor", "500"));
+    private static final long CEILING = Long.parseLong(System.getProperty("adaptiveTimeouts.ceiling", "20000"));
+    private static final int KEPT_SAMPLES = 500;
+
+    private static final Map<String, Deque<Long>> samples = load();
+    private static final ThreadLocal<String> user = new ThreadLocal<>();
+
+    private AdaptiveTimeouts() {
+    }
+
+    /** The user the following waits on this thread are for; null when nobody is logged in. */
+    public static void actAs(String username) {
+        if (username == null) {
+            user.remove();
+        } else {
+            user.set(username);
+        }
+    }
+
+    public static Duration timeoutFor(String wait) {
+        if (!ENABLED) {
+            return Duration.ofMillis(Configuration.timeout);
+        }
+        Deque<Long> waitSamples = samples.get(key(wait));
+        List<Long> sorted;
+        if (waitSamples == null) {
+            return Duration.ofMillis(Configuration.timeout);
+        }
+        synchronized (waitSamples) {
+            if (waitSamples.size() < MIN_SAMPLES) {
+                return Duration.ofMillis(Configuration.timeout);
+            }
+            sorted = new ArrayList<>(waitSamples);
+        }
+        Collections.sort(sorted);
+        long p99 = sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1);
+        return Duration.ofMillis(Math.max(FLOOR, Math.min(CEILING, (long) (p99 * FACTOR))));
+    }
+
+    /** How long a successful wait took until its condition held. */
+    public static void record(String wait, long millis) {
+        Deque<Long> waitSamples = samples.computeIfAbsent(key(wait), key -> new ArrayDeque<>());
+        synchronized (waitSamples) {
+            waitSamples.addLast(millis);
+            if (waitSamples.size() > KEPT_SAMPLES) {
+                waitSamples.removeFirst();
+            }
+        }
+    }
+
+    /** A wait whose condition did not hold within its timeout; its timeout widens again. */
+    public static void recordTimeout(String wait, long timeoutMillis) {
+        Deque<Long> waitSamples = samples.computeIfAbsent(key(wait), key -> new ArrayDeque<>());
+        synchronized (waitSamples) {
+            // Keeping the old samples would let one miss vanish under p99 and the wait stay too tight
+            waitSamples.clear();
+            waitSamples.addLast(timeoutMillis);
+        }
+        log.warn("Wait '{}' timed out after {} ms, back to the default timeout until re-learned", key(wait), timeoutMillis);
+    }
+
+    // e.g. "https://www.saucedemo.com standard_user #inventory_container visible"
+    private static String key(String wait) {
+        String username = user.get();
+        return Configuration.baseUrl + " " + (username != null ? username : "-") + " " + wait;
+    }
+
+    private static Map<String, Deque<Long>> load() {
+        Map<String, Deque<Long>> loaded = new ConcurrentHashMap<>();
+        if (Files.exists(FILE)) {
+            try {
+                Map<String, List<Long>> stored = mapper.readValue(FILE.toFile(), new TypeReference<Map<String, List<Long>>>() {
+                });
+                stored.forEach((wait, values) -> loaded.put(wait, new ArrayDeque<>(values)));
+                log.info("Loaded wait stats of {} waits from {}", loaded.size(), FILE.toAbsolutePath());
+            } catch (IOException e) {
+                log.warn("Ignoring unreadable wait stats {}: {}", FILE, e.getMessage());
+            }
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(AdaptiveTimeouts::save, "wait-stats-writer"));
+        return loaded;
+    }
+
+    private static void save() {
+        if (samples.isEmpty()) {
+            return;
+        }
+        Map<String, List<Long>> stored = new TreeMap<>();
+        samples.forEach((wait, values) -> {
+            synchronized (values) {
+                stored.put(wait, new ArrayList<>(values));
+            }
+        });
+        try {
+            Files.createDirectories(FILE.toAbsolutePath().getParent());
+            mapper.writeValue(FILE.toFile(), stored);
+        } catch (IOException e) {
+            log.warn("Could not write wait stats {}: {}", FILE, e.getMessage());
+        }
+    }
+}
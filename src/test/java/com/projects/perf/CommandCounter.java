@@ -0,0 +1,104 @@
+package com.projects.perf;
+
+import com.projects.base.Drivers;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.decorators.Decorated;
+import org.openqa.selenium.support.decorators.WebDriverDecorator;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Decorates a driver and counts every call on it (and on the elements, windows, navigation...
+ * it hands out) that reaches the driver as one round trip, timed and grouped by command name.
+ * Getting at those parts (manage(), switchTo(), timeouts()...) is local and not counted.
+ * Counters are per driver and reset by BaseTest before each test; a driver's counter is
+ * dropped when the driver quits.
+ */
+public class CommandCounter extends WebDriverDecorator<WebDriver> {
+
+    // Answered locally, no request goes to chromedriver
+    private static final Set<String> LOCAL_CALLS = Set.of(
+            "getWrappedDriver", "getWrappedElement", "getDevTools", "maybeGetDevTools",
+            "getCapabilities", "getSessionId", "getCommandExecutor", "toString", "hashCode", "equals");
+    // Hand out another part of the driver (manage().timeouts()...) without a request. Only without
+    // arguments: switchTo().window(handle) shares the name with manage().window() but is a command
+    private static final Set<String> LOCAL_ACCESSORS = Set.of(
+            "manage", "switchTo", "navigate", "timeouts", "window", "logs");
+
+    private static final Map<WebDriver, CommandCounter> counters = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Map<String, Stats> commands = new ConcurrentHashMap<>();
+
+    public static WebDriver install(WebDriver driver) {
+        CommandCounter counter = new CommandCounter();
+        counters.put(driver, counter);
+        return counter.decorate(driver);
+    }
+
+    /** The counter of the given (possibly decorated) driver, or null if it was not decorated. */
+    public static CommandCounter of(WebDriver driver) {
+        return counters.get(Drivers.unwrap(driver));
+    }
+
+    @Override
+    public Object call(Decorated<?> target, Method method, Object[] args) throws Throwable {
+        if (LOCAL_CALLS.contains(method.getName())
+                || (LOCAL_ACCESSORS.contains(method.getName()) && (args == null || args.length == 0))) {
+            return super.call(target, method, args);
+        }
+        long start = System.nanoTime();
+        try {
+            return super.call(target, method, args);
+        } finally {
+            commands.computeIfAbsent(method.getName(), name -> new Stats()).add(System.nanoTime() - start);
+            // The counter references its driver, so the weak map alone would never drop it
+            if (method.getName().equals("quit") && target.getOriginal() instanceof WebDriver driver) {
+                counters.remove(driver);
+            }
+        }
+    }
+
+    public long total() {
+        return commands.values().stream().mapToLong(stats -> stats.count.get()).sum();
+    }
+
+    public long totalMillis() {
+        return commands.values().stream().mapToLong(stats -> stats.nanos.get()).sum() / 1_000_000;
+    }
+
+    public void reset() {
+        commands.clear();
+    }
+
+    /** e.g. "14 round trips in 912 ms: click=3 (140 ms), findElement=6 (310 ms), ..." */
+    @Override
+    public String toString() {
+        String byCommand = new TreeMap<>(commands).entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .collect(Collectors.joining(", "));
+        return total() + " round trips in " + totalMillis() + " ms: " + byCommand;
+    }
+
+    private static final class Stats {
+        final AtomicLong count = new AtomicLong();
+        final AtomicLong nanos = new AtomicLong();
+
+        void add(long elapsed) {
+            count.incrementAndGet();
+            nanos.addAndGet(elapsed);
+        }
+
+        @Override
+        public String toString() {
+            return count.get() + " (" + nanos.get() / 1_000_000 + " ms)";
+        }
+    }
+}
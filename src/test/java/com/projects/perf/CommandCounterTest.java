@@ -0,0 +1,109 @@
+package com.projects.perf;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommandCounterTest {
+
+    private final List<String> received = new ArrayList<>();
+
+    // Stands in for chromedriver: records what reaches it, hands out fakes for manage(),
+    // switchTo()... and answers everything else with nothing
+    private WebDriver fakeDriver() {
+        return fake(WebDriver.class);
+    }
+
+    private <T> T fake(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "hashCode": return System.identityHashCode(proxy);
+                        case "equals": return proxy == args[0];
+                        case "toString": return "fake " + type.getSimpleName();
+                        default:
+                            received.add(method.getName());
+                            return method.getReturnType().isInterface() && method.getReturnType().getName().startsWith("org.openqa")
+                                    ? fake(method.getReturnType())
+                                    : null;
+                    }
+                }));
+    }
+
+    @Test
+    void countsEveryCommandSentToTheDriver() {
+        WebDriver driver = CommandCounter.install(fakeDriver());
+
+        driver.get("about:blank");
+        driver.getTitle();
+        driver.getTitle();
+        driver.getCurrentUrl();
+
+        CommandCounter counter = CommandCounter.of(driver);
+        assertNotNull(counter, "Decorated driver should have a counter");
+        assertEquals(4, counter.total());
+        assertEquals(List.of("get", "getTitle", "getTitle", "getCurrentUrl"), received);
+        assertTrue(counter.toString().startsWith("4 round trips"), counter.toString());
+        assertTrue(counter.toString().contains("getTitle=2"), counter.toString());
+    }
+
+    @Test
+    void doesNotCountLocalCalls() {
+        WebDriver driver = CommandCounter.install(fakeDriver());
+
+        driver.toString();
+        driver.hashCode();
+
+        assertEquals(0, CommandCounter.of(driver).total());
+    }
+
+    @Test
+    void accessorsOfDriverPartsAreNotRoundTrips() {
+        WebDriver driver = CommandCounter.install(fakeDriver());
+
+        driver.manage().timeouts().getScriptTimeout();
+        driver.manage().window().getSize();
+        driver.navigate().refresh();
+
+        CommandCounter counter = CommandCounter.of(driver);
+        assertEquals(3, counter.total(), counter.toString());
+        assertTrue(counter.toString().contains("getScriptTimeout=1"), counter.toString());
+    }
+
+    @Test
+    void switchingWindowsIsARoundTrip() {
+        WebDriver driver = CommandCounter.install(fakeDriver());
+
+        driver.switchTo().window("other");
+
+        assertEquals(1, CommandCounter.of(driver).total());
+    }
+
+    @Test
+    void resetStartsFromZero() {
+        WebDriver driver = CommandCounter.install(fakeDriver());
+        driver.getTitle();
+
+        CommandCounter counter = CommandCounter.of(driver);
+        counter.reset();
+
+        assertEquals(0, counter.total());
+    }
+
+    @Test
+    void dropsTheCounterWhenTheDriverQuits() {
+        WebDriver driver = CommandCounter.install(fakeDriver());
+
+        driver.quit();
+
+        assertNull(CommandCounter.of(driver), "Counter should be released with its driver");
+    }
+}
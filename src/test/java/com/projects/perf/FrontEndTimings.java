@@ -0,0 +1,234 @@
+package com.projects.perf;
+
+import com.codeborne.selenide.Configuration;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.codeborne.selenide.Selenide.executeJavaScript;
+
+/**
+ * Browser-side timings of the pages the page objects wait for: how long until the page
+ * object saw the page ready ("interactive"), Navigation Timing, resource timing and long tasks.
+ * Page objects call {@link #capture(String)} once their page is visible; tests then check
+ * budgets with {@link #assertWithin(String, Metric, long)}.
+ *
+ * Off by default, like the other opt-in features: -DfrontEndTimings=true turns capturing on.
+ * Without it no observer script is installed, capturing costs no round trip, and nothing is
+ * attached or written.
+ *
+ * Every capture is attached to the Allure test. At the end of the run p50/p95/p99 per page and
+ * metric go to target/frontend-timings.json and Allure, and one line per run is appended to
+ * -DfrontEndHistory (default frontend-history.jsonl) for trends across runs.
+ *
+ * Budgets only fail tests with -DfrontEndBudgets=true; otherwise a capture over its budget is
+ * logged. They are fixed numbers in the tests, so they only mean something against a known
+ * environment (e.g. -DstandIn=true or a dedicated test instance), and -DfrontEndBudgets.factor
+ * scales all of them (e.g. 2 on slow CI machines). "interactive" ends when the page object's
+ * script reads the timings, so it includes the WebDriver round trips of the page object's wait.
+ *
+ * Times count from the start of the navigation. The apps route client-side with
+ * history.pushState, so on Chrome a script installed in every new document (see
+ * {@link #install(WebDriver)}, also called for every -DcontextPerTest window) notes the last
+ * pushState/popstate as the start of a soft navigation and collects long tasks; other
+ * browsers count from the document load and report no long tasks. Without that script the
+ * interactive time is not budgeted, since its start would be the last full page load.
+ */
+public class FrontEndTimings implements BeforeAllCallback, BeforeEachCallback {
+
+    private static final Logger log = LoggerFactory.getLogger(FrontEndTimings.class);
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("frontEndTimings", "false"));
+    private static final boolean BUDGETS = Boolean.parseBoolean(System.getProperty("frontEndBudgets", "false"));
+    private static final double BUDGET_FACTOR = Double.parseDouble(System.getProperty("frontEndBudgets.factor", "1.0"));
+    private static final Path HISTORY = Paths.get(System.getProperty("frontEndHistory", "frontend-history.jsonl"));
+
+    private static final String OBSERVER =
+            "(function () {" +
+            "  var perf = window.__frontEndTimings = {longTasks: [], softNavigationStart: null, observed: false};" +
+            "  try {" +
+            "    new PerformanceObserver(function (list) {" +
+            "      list.getEntries().forEach(function (e) { perf.longTasks.push({startTime: e.startTime, duration: e.duration}); });" +
+            "    }).observe({type: 'longtask', buffered: true});" +
+            "    perf.observed = true;" +
+            "  } catch (e) {}" +
+            "  var pushState = history.pushState;" +
+            "  history.pushState = function () {" +
+            "    perf.softNavigationStart = performance.now();" +
+            "    return pushState.apply(this, arguments);" +
+            "  };" +
+            "  window.addEventListener('popstate', function () { perf.softNavigationStart = performance.now(); });" +
+            "})();";
+
+    private static final String SCRIPT =
+            "var perf = window.__frontEndTimings || {longTasks: [], softNavigationStart: null, observed: false};" +
+            "var start = perf.softNavigationStart || 0;" +
+            "var nav = perf.softNavigationStart ? null : performance.getEntriesByType('navigation')[0];" +
+            "var resources = performance.getEntriesByType('resource').filter(function (r) { return r.startTime >= start; });" +
+            "var slowest = resources.reduce(function (a, b) { return !a || b.duration > a.duration ? b : a; }, null);" +
+            "var longTasks = perf.longTasks.filter(function (t) { return t.startTime >= start; });" +
+            "function ms(value) { return value > 0 ? Math.round(value) : null; }" +
+            "return {" +
+            "  instrumented: !!window.__frontEndTimings," +
+            "  softNavigation: !!perf.softNavigationStart," +
+            "  interactiveMs: Math.round(performance.now() - start)," +
+            "  ttfbMs: nav ? ms(nav.responseStart) : null," +
+            "  domContentLoadedMs: nav ? ms(nav.domContentLoadedEventEnd) : null," +
+            "  loadMs: nav ? ms(nav.loadEventEnd) : null," +
+            "  resources: resources.length," +
+            "  resourceKb: Math.round(resources.reduce(function (sum, r) { return sum + (r.transferSize || 0); }, 0) / 1024)," +
+            "  slowestResourceMs: slowest ? Math.round(slowest.duration) : null," +
+            "  slowestResource: slowest ? slowest.name : null," +
+            "  longTasks: perf.observed ? longTasks.length : null," +
+            "  longTaskMs: perf.observed ? Math.round(longTasks.reduce(function (sum, t) { return sum + t.duration; }, 0)) : null" +
+            "};";
+
+    /** Budgetable timings, all in milliseconds. */
+    public enum Metric {
+        INTERACTIVE("interactiveMs"),
+        TTFB("ttfbMs"),
+        DOM_CONTENT_LOADED("domContentLoadedMs"),
+        LOAD("loadMs"),
+        SLOWEST_RESOURCE("slowestResourceMs"),
+        LONG_TASKS("longTaskMs");
+
+        private final String key;
+
+        Metric(String key) {
+            this.key = key;
+        }
+    }
+
+    private static final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    // Latest capture per page in the current test
+    private static final ThreadLocal<Map<String, Map<String, Object>>> captures = ThreadLocal.withInitial(HashMap::new);
+
+    /** Called for every new window: once per driver right after it is created, and per browser context. */
+    public static void install(WebDriver driver) {
+        if (ENABLED && driver instanceof HasCdp cdp) {
+            cdp.executeCdpCommand("Page.addScriptToEvaluateOnNewDocument", Map.of("source", OBSERVER));
+        }
+    }
+
+    /** Reads the timings of the page that just became visible, e.g. capture("inventory"). */
+    public static void capture(String page) {
+        if (!ENABLED) {
+            return;
+        }
+        Map<String, Object> timings;
+        try {
+            timings = executeJavaScript(SCRIPT);
+        } catch (RuntimeException e) {
+            log.warn("Could not read front-end timings of '{}': {}", page, e.getMessage());
+            return;
+        }
+        captures.get().put(page, timings);
+        for (Metric metric : Metric.values()) {
+            Object value = timings.get(metric.key);
+            if (value instanceof Number number) {
+                histograms.computeIfAbsent(page + " | " + metric.key, key -> new LatencyHistogram()).record(number.longValue());
+            }
+        }
+        log.debug("Front-end timings of '{}': {}", page, timings);
+        if (Allure.getLifecycle().getCurrentTestCase().isPresent()) {
+            try {
+                Allure.addAttachment("Front-end timings: " + page, "application/json",
+                        mapper.writeValueAsString(timings), ".json");
+            } catch (JsonProcessingException e) {
+                log.warn("Could not attach front-end timings of '{}': {}", page, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * With -DfrontEndBudgets=true, fails the test unless the page's latest capture in this test
+     * is within the budget; without it, only logs a capture over budget. Without
+     * -DfrontEndTimings=true nothing is captured, so enforced budgets fail.
+     */
+    public static void assertWithin(String page, Metric metric, long budgetMs) {
+        Map<String, Object> timings = captures.get().get(page);
+        if (timings == null) {
+            if (BUDGETS) {
+                Assertions.fail("No front-end timings of '" + page + "' in this test"
+                        + (ENABLED ? ", no page object captured them" : ", capturing needs -DfrontEndTimings=true"));
+            }
+            return;
+        }
+        if (metric == Metric.INTERACTIVE && !Boolean.TRUE.equals(timings.get("instrumented"))) {
+            log.warn("Not budgeting {} of '{}': the page has no front-end timings script, so a soft navigation start is unknown",
+                    metric.key, page);
+            return;
+        }
+        Object value = timings.get(metric.key);
+        if (!(value instanceof Number number)) {
+            if (BUDGETS) {
+                Assertions.fail("Front-end timing " + metric.key + " of '" + page + "' was not measured: " + timings);
+            }
+            return;
+        }
+        long budget = Math.round(budgetMs * BUDGET_FACTOR);
+        if (number.longValue() > budget) {
+            String message = "'" + page + "' " + metric.key + " was " + number.longValue() + " ms, budget is " + budget + " ms";
+            if (BUDGETS) {
+                Assertions.fail(message);
+            } else {
+                log.warn("{} (not enforced without -DfrontEndBudgets=true)", message);
+            }
+        }
+    }
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        // Closed by JUnit once, after every test in the run has finished
+        context.getRoot().getStore(ExtensionContext.Namespace.GLOBAL)
+                .getOrComputeIfAbsent(FrontEndTimings.class, key -> (ExtensionContext.Store.CloseableResource) FrontEndTimings::report);
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        captures.get().clear();
+    }
+
+    private static void report() {
+        if (histograms.isEmpty()) {
+            return;
+        }
+        Map<String, Object> timings = new TreeMap<>();
+        histograms.forEach((key, histogram) -> timings.put(key, histogram.summary()));
+        RunReports.publish("Front-end timings", "frontend-timings.json", timings);
+
+        Map<String, Object> run = new LinkedHashMap<>();
+        run.put("time", Instant.now().toString());
+        run.put("baseUrl", Configuration.baseUrl);
+        run.put("timings", Collections.unmodifiableMap(timings));
+        try {
+            Files.writeString(HISTORY, mapper.writeValueAsString(run) + "\n", StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            log.warn("Could not append to front-end history {}: {}", HISTORY, e.getMessage());
+        }
+    }
+}
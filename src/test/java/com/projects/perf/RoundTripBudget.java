@@ -0,0 +1,16 @@
+package com.projects.perf;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maximum number of WebDriver commands a test may send. BaseTest fails the test after it
+ * runs if the count is exceeded. On a class it applies to every test without its own budget.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface RoundTripBudget {
+    int value();
+}
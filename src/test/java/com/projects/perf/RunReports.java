@@ -0,0 +1,75 @@
+package com.projects.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
+
+/**
+ * Publishes end-of-run reports as JSON: under target/ for tooling, and under run-reports/ in
+ * the Allure results directory, which CI keeps as an artifact. Allure ignores that folder, so
+ * no test result is invented; the report's Environment section lists each file instead.
+ */
+public final class RunReports {
+
+    private static final Logger log = LoggerFactory.getLogger(RunReports.class);
+    private static final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final Path ALLURE_RESULTS = Paths.get(System.getProperty("allure.results.directory", "allure-results"));
+
+    private RunReports() {
+    }
+
+    public static synchronized void publish(String name, String fileName, Object report) {
+        byte[] json;
+        try {
+            json = mapper.writeValueAsBytes(report);
+        } catch (IOException e) {
+            log.warn("Could not serialize report '{}': {}", name, e.getMessage());
+            return;
+        }
+
+        write(name, Paths.get(System.getProperty("reportsDir", "target"), fileName), json);
+        if (write(name, ALLURE_RESULTS.resolve("run-reports").resolve(fileName), json)) {
+            addEnvironmentEntry(name, "run-reports/" + fileName);
+        }
+    }
+
+    private static boolean write(String name, Path file, byte[] json) {
+        try {
+            Files.createDirectories(file.getParent());
+            Files.write(file, json);
+            log.info("{} written to {}", name, file.toAbsolutePath());
+            return true;
+        } catch (IOException e) {
+            log.warn("Could not write {}: {}", file, e.getMessage());
+            return false;
+        }
+    }
+
+    // environment.properties is the one run-level (not per-test) file Allure shows
+    private static void addEnvironmentEntry(String name, String location) {
+        Path file = ALLURE_RESULTS.resolve("environment.properties");
+        Properties environment = new Properties();
+        try {
+            if (Files.exists(file)) {
+                try (InputStream in = Files.newInputStream(file)) {
+                    environment.load(in);
+                }
+            }
+            environment.setProperty(name, location);
+            try (OutputStream out = Files.newOutputStream(file)) {
+                environment.store(out, null);
+            }
+        } catch (IOException e) {
+            log.warn("Could not update {}: {}", file, e.getMessage());
+        }
+    }
+}
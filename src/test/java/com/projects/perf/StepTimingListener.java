@@ -0,0 +1,45 @@
+package com.projects.perf;
+
+import com.codeborne.selenide.logevents.LogEvent;
+import com.codeborne.selenide.logevents.LogEventListener;
+
+import java.util.regex.Pattern;
+
+/**
+ * Times every Selenide step and files it under "PageObject.method | selector | action",
+ * e.g. "CheckoutPage.fillInformation | #first-name | set value".
+ */
+public class StepTimingListener implements LogEventListener {
+
+    // Quoted text inside selectors (findBy(text "...")) would give one key per product
+    private static final Pattern QUOTED = Pattern.compile("\"[^\"]*\"");
+    private static final StackWalker STACK = StackWalker.getInstance();
+
+    @Override
+    public void beforeEvent(LogEvent currentLog) {
+    }
+
+    @Override
+    public void afterEvent(LogEvent currentLog) {
+        StepTimings.record(key(currentLog), currentLog.getDuration());
+    }
+
+    static String key(LogEvent event) {
+        String subject = event.getSubject();
+        int args = subject.indexOf('(');
+        String action = args > 0 ? subject.substring(0, args) : subject;
+        String selector = QUOTED.matcher(event.getElement()).replaceAll("\"…\"");
+        return caller() + " | " + selector + " | " + action.trim();
+    }
+
+    // Closest page-object frame, otherwise the test method that called Selenide directly
+    static String caller() {
+        return STACK.walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith("com.projects.pages.")
+                        || frame.getClassName().startsWith("com.projects.tests."))
+                .findFirst()
+                .map(frame -> frame.getClassName().substring(frame.getClassName().lastIndexOf('.') + 1)
+                        + "." + frame.getMethodName())
+                .orElse("-"));
+    }
+}
@@ -0,0 +1,68 @@
+package com.projects.perf;
+
+import com.codeborne.selenide.logevents.SelenideLogger;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects Selenide step durations for the whole run (-DstepTimings=false turns it off).
+ * When the last test finishes it publishes p50/p95/p99 per step (target/step-timings.json
+ * and Allure) and logs the -DstepTimings.top=N slowest steps by p95.
+ */
+public class StepTimings implements BeforeAllCallback, AfterAllCallback {
+
+    private static final Logger log = LoggerFactory.getLogger(StepTimings.class);
+
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("stepTimings", "true"));
+    private static final int TOP = Integer.parseInt(System.getProperty("stepTimings.top", "10"));
+    private static final String LISTENER = "StepTimings";
+
+    private static final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    static void record(String step, long millis) {
+        histograms.computeIfAbsent(step, key -> new LatencyHistogram()).record(millis);
+    }
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        if (!ENABLED) {
+            return;
+        }
+        SelenideLogger.addListener(LISTENER, new StepTimingListener());
+        // Closed by JUnit once, after every test in the run has finished
+        context.getRoot().getStore(ExtensionContext.Namespace.GLOBAL)
+                .getOrComputeIfAbsent(StepTimings.class, key -> (ExtensionContext.Store.CloseableResource) StepTimings::report);
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        SelenideLogger.removeListener(LISTENER);
+    }
+
+    private static void report() {
+        if (histograms.isEmpty()) {
+            return;
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        histograms.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> report.put(entry.getKey(), entry.getValue().summary()));
+        RunReports.publish("Step timings", "step-timings.json", report);
+
+        log.info("Top {} slowest steps by p95:", TOP);
+        histograms.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, LatencyHistogram> e) -> e.getValue().percentile(95)).reversed())
+                .limit(TOP)
+                .forEach(entry -> log.info("  p95={}ms p99={}ms n={}  {}",
+                        entry.getValue().percentile(95), entry.getValue().percentile(99),
+                        entry.getValue().count(), entry.getKey()));
+    }
+}
@@ -0,0 +1,105 @@
+package com.projects.schedule;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.opentest4j.TestAbortedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.AnnotatedElement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fail-fast for broken prerequisites. A failed {@link Proves} test marks its capability broken
+ * and every {@link DependsOn} test or class still to run is skipped at once with the reason,
+ * instead of each one waiting out its own timeouts. Each test checks the prerequisites of its
+ * method, its class and the classes enclosing it, so the remaining tests of a class that was
+ * already running when the capability broke (e.g. in parallel) are skipped too. A later passing proof marks it working again.
+ * Registered through extension auto-detection; -DfailFast=false runs everything regardless.
+ */
+public class Capabilities implements ExecutionCondition, AfterTestExecutionCallback {
+
+    private static final Logger log = LoggerFactory.getLogger(Capabilities.class);
+
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("failFast", "true"));
+
+    // capability -> why it is broken; absent when working or not proven yet
+    private static final Map<String, String> broken = new ConcurrentHashMap<>();
+
+    @Override
+    public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+        if (!ENABLED) {
+            return ConditionEvaluationResult.enabled("Fail-fast is off");
+        }
+        List<String> capabilities = prerequisites(context);
+        if (capabilities.isEmpty()) {
+            return ConditionEvaluationResult.enabled("No prerequisites");
+        }
+        for (String capability : capabilities) {
+            String reason = broken.get(capability);
+            if (reason != null) {
+                return ConditionEvaluationResult.disabled("Skipped: '" + capability + "' is broken (" + reason + ")");
+            }
+        }
+        return ConditionEvaluationResult.enabled("Prerequisites not known broken");
+    }
+
+    private static List<String> prerequisites(ExtensionContext context) {
+        List<String> capabilities = new ArrayList<>();
+        context.getElement()
+                .flatMap(element -> AnnotationSupport.findAnnotation(element, DependsOn.class))
+                .ifPresent(dependsOn -> capabilities.addAll(List.of(dependsOn.value())));
+        // The class's own context checked it once, when the class started
+        for (Class<?> type = context.getTestClass().orElse(null); type != null; type = type.getEnclosingClass()) {
+            if (context.getElement().orElse(null) != type) {
+                AnnotationSupport.findAnnotation(type, DependsOn.class)
+                        .ifPresent(dependsOn -> capabilities.addAll(List.of(dependsOn.value())));
+            }
+        }
+        return capabilities;
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        Proves proves = proves(context);
+        if (proves == null || !context.getDisplayName().contains(proves.when())) {
+            return;
+        }
+        Optional<Throwable> failure = context.getExecutionException();
+        if (failure.isEmpty()) {
+            if (broken.remove(proves.value()) != null) {
+                log.info("Capability '{}' works again ({})", proves.value(), context.getDisplayName());
+            }
+        } else if (!(failure.get() instanceof TestAbortedException)) {
+            String reason = context.getRequiredTestClass().getSimpleName() + " > " + context.getDisplayName()
+                    + " failed: " + firstLine(failure.get().getMessage());
+            broken.put(proves.value(), reason);
+            log.warn("Capability '{}' is broken, skipping tests that depend on it: {}", proves.value(), reason);
+        }
+    }
+
+    private static Proves proves(ExtensionContext context) {
+        Proves onMethod = context.getRequiredTestMethod().getAnnotation(Proves.class);
+        return onMethod != null ? onMethod : context.getRequiredTestClass().getAnnotation(Proves.class);
+    }
+
+    /** Whether the class or method proves some capability, used to run proofs first. */
+    static boolean provesSomething(AnnotatedElement element) {
+        return element.isAnnotationPresent(Proves.class);
+    }
+
+    private static String firstLine(String message) {
+        if (message == null) {
+            return "no message";
+        }
+        int newline = message.indexOf('\n');
+        return newline < 0 ? message : message.substring(0, newline);
+    }
+}
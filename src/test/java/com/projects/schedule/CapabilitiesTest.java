@@ -0,0 +1,117 @@
+package com.projects.schedule;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CapabilitiesTest {
+
+    // Names of their own, so the real suite's capabilities are never touched
+    @Proves(value = "capabilities-test-a", when = "Valid Login")
+    static class Proof {
+        void prove() {
+        }
+    }
+
+    @Proves("capabilities-test-b")
+    static class OtherProof {
+        void prove() {
+        }
+    }
+
+    @DependsOn("capabilities-test-a")
+    static class Dependent {
+        void test() {
+        }
+
+        static class Inner {
+            void test() {
+            }
+        }
+    }
+
+    static class Independent {
+        @DependsOn("capabilities-test-b")
+        void test() {
+        }
+
+        void other() {
+        }
+    }
+
+    private final Capabilities capabilities = new Capabilities();
+
+    @Test
+    void remainingTestsOfAStartedDependentClassAreSkipped() throws Exception {
+        // The class started while the capability still worked
+        assertTrue(enabled(Dependent.class, null));
+
+        prove(Proof.class, "[1] Valid Login", new AssertionError("login failed"));
+
+        assertFalse(enabled(Dependent.class, method(Dependent.class, "test")), "Method of a dependent class");
+        assertFalse(enabled(Dependent.Inner.class, method(Dependent.Inner.class, "test")), "Method of an enclosed class");
+
+        prove(Proof.class, "[1] Valid Login", null);
+
+        assertTrue(enabled(Dependent.class, method(Dependent.class, "test")), "Works again after a passing proof");
+    }
+
+    @Test
+    void methodLevelPrerequisitesOnlySkipThatMethod() throws Exception {
+        prove(OtherProof.class, "prove()", new AssertionError("broken"));
+
+        assertFalse(enabled(Independent.class, method(Independent.class, "test")));
+        assertTrue(enabled(Independent.class, method(Independent.class, "other")));
+
+        prove(OtherProof.class, "prove()", null);
+    }
+
+    @Test
+    void onlyInvocationsMatchingWhenProveTheCapability() throws Exception {
+        prove(Proof.class, "[2] Invalid Login", new AssertionError("expected to fail"));
+
+        assertTrue(enabled(Dependent.class, method(Dependent.class, "test")));
+    }
+
+    private boolean enabled(Class<?> testClass, Method testMethod) {
+        AnnotatedElement element = testMethod != null ? testMethod : testClass;
+        return !capabilities.evaluateExecutionCondition(context(testClass, testMethod, element, "test", null)).isDisabled();
+    }
+
+    private void prove(Class<?> proofClass, String displayName, Throwable failure) throws Exception {
+        Method method = method(proofClass, "prove");
+        capabilities.afterTestExecution(context(proofClass, method, method, displayName, failure));
+    }
+
+    private static Method method(Class<?> type, String name) throws NoSuchMethodException {
+        return type.getDeclaredMethod(name);
+    }
+
+    // Answers what Capabilities asks of a JUnit context
+    private static ExtensionContext context(Class<?> testClass, Method testMethod, AnnotatedElement element,
+                                            String displayName, Throwable failure) {
+        return (ExtensionContext) Proxy.newProxyInstance(CapabilitiesTest.class.getClassLoader(),
+                new Class<?>[]{ExtensionContext.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getElement": return Optional.of(element);
+                        case "getTestClass": return Optional.of(testClass);
+                        case "getRequiredTestClass": return testClass;
+                        case "getTestMethod": return Optional.ofNullable(testMethod);
+                        case "getRequiredTestMethod": return testMethod;
+                        case "getDisplayName": return displayName;
+                        case "getExecutionException": return Optional.ofNullable(failure);
+                        case "hashCode": return System.identityHashCode(proxy);
+                        case "equals": return proxy == args[0];
+                        case "toString": return "context of " + displayName;
+                        default: throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
@@ -0,0 +1,14 @@
+package com.projects.schedule;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/** Skip this test (or every test of the class) when one of these capabilities is known broken. */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DependsOn {
+
+    String[] value();
+}
@@ -0,0 +1,27 @@
+package com.projects.schedule;
+
+import org.junit.jupiter.api.ClassDescriptor;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.ClassOrdererContext;
+
+import java.util.Arrays;
+
+
+/**
+ * Orders test classes from {@link TestHistory}: classes proving a capability ({@link Proves}) first,
+ * then classes with a failure in the last run, then classes that have never run, then the longest
+ * first, so parallel workers pick up the long classes early and finish together.
+ */
+public class HistoryClassOrderer implements ClassOrderer {
+
+    @Override
+    public void orderClasses(ClassOrdererContext context) {
+        TestHistory history = TestHistory.get();
+        context.getClassDescriptors().sort(HistoryOrder.comparator(
+                (ClassDescriptor descriptor) -> Capabilities.provesSomething(descriptor.getTestClass())
+                        || Arrays.stream(descriptor.getTestClass().getDeclaredMethods()).anyMatch(Capabilities::provesSomething),
+                descriptor -> history.classFailed(descriptor.getTestClass().getName()),
+                descriptor -> history.classDuration(descriptor.getTestClass().getName()),
+                descriptor -> descriptor.getTestClass().getName()));
+    }
+}
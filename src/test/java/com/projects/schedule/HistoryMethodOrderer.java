@@ -0,0 +1,24 @@
+package com.projects.schedule;
+
+import org.junit.jupiter.api.MethodDescriptor;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.MethodOrdererContext;
+
+/**
+ * Orders the methods of a class the same way as {@link HistoryClassOrderer}: capability proofs,
+ * then failed last run, then never run, then longest first. A parameterized method counts all
+ * its invocations. A class with its own @TestMethodOrder keeps it.
+ */
+public class HistoryMethodOrderer implements MethodOrderer {
+
+    @Override
+    public void orderMethods(MethodOrdererContext context) {
+        TestHistory history = TestHistory.get();
+        String className = context.getTestClass().getName();
+        context.getMethodDescriptors().sort(HistoryOrder.comparator(
+                (MethodDescriptor descriptor) -> Capabilities.provesSomething(descriptor.getMethod()),
+                descriptor -> history.methodFailed(className, descriptor.getMethod().getName()),
+                descriptor -> history.methodDuration(className, descriptor.getMethod().getName()),
+                descriptor -> descriptor.getMethod().getName()));
+    }
+}
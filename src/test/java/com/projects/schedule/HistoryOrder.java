@@ -0,0 +1,21 @@
+package com.projects.schedule;
+
+import java.util.Comparator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+final class HistoryOrder {
+
+    private HistoryOrder() {
+    }
+
+    // capability proofs first, then failed, then unknown (-1), then longest; the name keeps ties stable between runs
+    static <T> Comparator<T> comparator(Predicate<T> proof, Predicate<T> failed, ToLongFunction<T> duration, Function<T, String> name) {
+        return Comparator.<T, Boolean>comparing(proof::test).reversed()
+                .thenComparing(Comparator.<T, Boolean>comparing(failed::test).reversed())
+                .thenComparing(item -> duration.applyAsLong(item) >= 0)
+                .thenComparing(Comparator.comparingLong(duration).reversed())
+                .thenComparing(name);
+    }
+}
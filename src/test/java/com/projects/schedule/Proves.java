@@ -0,0 +1,20 @@
+package com.projects.schedule;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The outcome of this test decides whether a capability (e.g. "login") works; tests marked
+ * {@link DependsOn} the capability are skipped once it failed. Proving tests run first.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Proves {
+
+    String value();
+
+    /** For parameterized tests: only invocations whose display name contains this text count. */
+    String when() default "";
+}
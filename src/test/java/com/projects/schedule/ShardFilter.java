@@ -0,0 +1,205 @@
+package com.projects.schedule;
+
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * -Dshard=i/N runs only the i-th of N shards (1-based) of the suite, e.g. one per CI container.
+ * The unit is a test, and for parameterized tests (and other templates) each invocation:
+ * <ul>
+ *     <li>units with {@link TestHistory} are packed longest-first into the currently lightest
+ *     shard, so shards take about the same time;</li>
+ *     <li>units without history go to the shard given by a hash of their id.</li>
+ * </ul>
+ * Plain tests are filtered at discovery, so a shard never starts the classes or browsers of
+ * tests it does not own and reports nothing about them. Invocations only exist while their
+ * template runs, so templates are kept in every shard and {@link Invocations} skips the
+ * invocations of other shards when they come up; those show as skipped.
+ *
+ * Only the tests discovered in this run (and the recorded invocations of discovered
+ * templates) are packed, so deleted or renamed tests left in the history take no room. The
+ * assignment depends only on the discovered ids and the history file, so every container (and
+ * a local rerun) computes the same disjoint shards that together cover the whole suite.
+ * Registered as a launcher service, {@link Invocations} as a Jupiter extension.
+ */
+public class ShardFilter implements PostDiscoveryFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardFilter.class);
+
+    private static final String SHARD = System.getProperty("shard", "").trim();
+
+    // One plan per engine, shared with Invocations; the launcher visits an engine's root before its tests
+    private static final Map<String, Plan> plans = new ConcurrentHashMap<>();
+
+    @Override
+    public FilterResult apply(TestDescriptor descriptor) {
+        if (SHARD.isEmpty()) {
+            return FilterResult.included("Sharding is off");
+        }
+        TestDescriptor root = descriptor;
+        while (root.getParent().isPresent()) {
+            root = root.getParent().get();
+        }
+        TestDescriptor engine = root;
+        String engineId = engine.getUniqueId().toString();
+        Plan plan;
+        if (descriptor == engine) {
+            // A new discovery (e.g. a rerun in the same JVM) gets a new plan
+            plan = newPlan(engine);
+            plans.put(engineId, plan);
+        } else {
+            plan = plans.computeIfAbsent(engineId, key -> newPlan(engine));
+        }
+
+        // Containers stay; the launcher prunes the ones left without tests
+        if (isTemplate(descriptor)) {
+            return FilterResult.included("Invocations are split when they run");
+        }
+        if (!descriptor.isTest()) {
+            return FilterResult.included("Container");
+        }
+        int shard = plan.shardOf(descriptor.getUniqueId().toString());
+        return shard == plan.shard
+                ? FilterResult.included("In shard " + SHARD)
+                : FilterResult.excluded("In shard " + shard + "/" + plan.shards + ", running " + SHARD);
+    }
+
+    // A container whose tests only appear while it runs (parameterized, factories)
+    private static boolean isTemplate(TestDescriptor descriptor) {
+        return !descriptor.isTest() && descriptor.mayRegisterTests() && descriptor.getChildren().isEmpty();
+    }
+
+    private static Plan newPlan(TestDescriptor engine) {
+        List<String> tests = new ArrayList<>();
+        List<String> templates = new ArrayList<>();
+        engine.accept(descriptor -> {
+            if (descriptor.isTest()) {
+                tests.add(descriptor.getUniqueId().toString());
+            } else if (isTemplate(descriptor)) {
+                templates.add(descriptor.getUniqueId().toString());
+            }
+        });
+        return new Plan(SHARD, tests, templates, TestHistory.get().previousRuns());
+    }
+
+    /** Skips the invocations of templates (parameterized tests...) that belong to other shards. */
+    public static class Invocations implements ExecutionCondition {
+
+        @Override
+        public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+            if (SHARD.isEmpty()) {
+                return ConditionEvaluationResult.enabled("Sharding is off");
+            }
+            UniqueId uniqueId = UniqueId.parse(context.getUniqueId());
+            Plan plan = plans.get(UniqueId.forEngine(uniqueId.getEngineId().orElse("")).toString());
+            if (plan == null || !plan.isTemplate(uniqueId.removeLastSegment().toString())) {
+                return ConditionEvaluationResult.enabled("Not a template invocation");
+            }
+            int shard = plan.shardOf(uniqueId.toString());
+            return shard == plan.shard
+                    ? ConditionEvaluationResult.enabled("In shard " + SHARD)
+                    : ConditionEvaluationResult.disabled("In shard " + shard + "/" + plan.shards + ", running " + SHARD);
+        }
+    }
+
+    static final class Plan {
+        final int shard;
+        final int shards;
+        private final Set<String> templates;
+        private final Map<String, Integer> assigned = new HashMap<>();
+
+        Plan(String spec, Collection<String> tests, Collection<String> templates, Map<String, TestHistory.Entry> history) {
+            this.templates = new HashSet<>(templates);
+            String[] parts = spec.split("/");
+            try {
+                if (parts.length != 2) {
+                    throw new NumberFormatException(spec);
+                }
+                shard = Integer.parseInt(parts[0].trim());
+                shards = Integer.parseInt(parts[1].trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("❌ -Dshard must look like i/N, got '" + spec + "'");
+            }
+            if (shards < 1 || shard < 1 || shard > shards) {
+                throw new IllegalArgumentException("❌ -Dshard=" + spec + " is out of range, expected 1 <= i <= N");
+            }
+
+            // Longest processing time first, ties by id so every container packs identically
+            List<Map.Entry<String, Long>> known = new ArrayList<>(durations(tests, templates, history).entrySet());
+            known.sort(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+            long[] load = new long[shards];
+            int[] count = new int[shards];
+            for (Map.Entry<String, Long> unit : known) {
+                // Equal loads (e.g. many sub-millisecond tests) go to the shard with fewer tests
+                int lightest = 0;
+                for (int i = 1; i < shards; i++) {
+                    if (load[i] < load[lightest] || (load[i] == load[lightest] && count[i] < count[lightest])) {
+                        lightest = i;
+                    }
+                }
+                load[lightest] += unit.getValue();
+                count[lightest]++;
+                assigned.put(unit.getKey(), lightest + 1);
+            }
+            log.info("Running shard {}/{}: ~{}s of {} known tests and invocations (shard loads {}s), "
+                            + "new ones are split by id",
+                    shard, shards, load[shard - 1] / 1000,
+                    assigned.values().stream().filter(s -> s == shard).count(),
+                    Arrays.stream(load).map(ms -> ms / 1000).boxed().toList());
+        }
+
+        /** Recorded time of each discovered test and of each recorded invocation of a discovered template. */
+        static Map<String, Long> durations(Collection<String> tests, Collection<String> templates,
+                                           Map<String, TestHistory.Entry> history) {
+            Map<String, Long> durations = new TreeMap<>();
+            for (String test : tests) {
+                TestHistory.Entry entry = history.get(test);
+                if (entry != null) {
+                    durations.put(test, entry.getDurationMs());
+                }
+            }
+            Set<String> templateIds = new HashSet<>(templates);
+            history.forEach((uniqueId, entry) -> {
+                int lastSegment = uniqueId.lastIndexOf("/[");
+                if (lastSegment > 0 && templateIds.contains(uniqueId.substring(0, lastSegment))) {
+                    durations.put(uniqueId, entry.getDurationMs());
+                }
+            });
+            return durations;
+        }
+
+        boolean isTemplate(String uniqueId) {
+            return templates.contains(uniqueId);
+        }
+
+        int shardOf(String uniqueId) {
+            Integer known = assigned.get(uniqueId);
+            if (known != null) {
+                return known;
+            }
+            CRC32 crc = new CRC32();
+            crc.update(uniqueId.getBytes(StandardCharsets.UTF_8));
+            return (int) (crc.getValue() % shards) + 1;
+        }
+    }
+}
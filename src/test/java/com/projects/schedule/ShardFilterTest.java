@@ -0,0 +1,152 @@
+package com.projects.schedule;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShardFilterTest {
+
+    private static final String CLASS = "[engine:junit-jupiter]/[class:com.projects.tests.SampleTest]";
+
+    @Test
+    void everyUnitIsInExactlyOneShard() {
+        List<String> units = units(40);
+        Map<String, TestHistory.Entry> history = history(units.subList(0, 25));
+
+        List<ShardFilter.Plan> plans = plans(4, units, history);
+
+        for (String unit : units) {
+            int shard = plans.get(0).shardOf(unit);
+            assertTrue(shard >= 1 && shard <= 4, unit + " is in shard " + shard);
+            for (ShardFilter.Plan plan : plans) {
+                assertEquals(shard, plan.shardOf(unit), "Containers disagree on the shard of " + unit);
+            }
+        }
+    }
+
+    @Test
+    void samePlanForSameUnitsAndHistory() {
+        List<String> units = units(30);
+        Map<String, TestHistory.Entry> history = history(units);
+
+        ShardFilter.Plan first = new ShardFilter.Plan("2/3", units, List.of(), history);
+        ShardFilter.Plan second = new ShardFilter.Plan("2/3", new ArrayList<>(units), List.of(), new HashMap<>(history));
+
+        for (String unit : units) {
+            assertEquals(first.shardOf(unit), second.shardOf(unit));
+        }
+    }
+
+    @Test
+    void knownUnitsAreBalancedByDuration() {
+        List<String> units = units(20);
+        Map<String, TestHistory.Entry> history = history(units);
+
+        long[] load = new long[3];
+        ShardFilter.Plan plan = new ShardFilter.Plan("1/3", units, List.of(), history);
+        for (String unit : units) {
+            load[plan.shardOf(unit) - 1] += history.get(unit).getDurationMs();
+        }
+
+        long max = Math.max(load[0], Math.max(load[1], load[2]));
+        long min = Math.min(load[0], Math.min(load[1], load[2]));
+        // Longest-first greedy: shards differ by at most the longest test
+        assertTrue(max - min <= 20_000, "Shard loads are unbalanced: " + load[0] + ", " + load[1] + ", " + load[2]);
+    }
+
+    @Test
+    void instantTestsAreSpreadByCount() {
+        List<String> units = units(10);
+        Map<String, TestHistory.Entry> history = new HashMap<>();
+        units.forEach(unit -> history.put(unit, entry(0)));
+
+        ShardFilter.Plan plan = new ShardFilter.Plan("1/2", units, List.of(), history);
+
+        assertEquals(5, units.stream().filter(unit -> plan.shardOf(unit) == 1).count());
+    }
+
+    @Test
+    void parameterizedInvocationsArePackedOneByOne() {
+        String method = CLASS + "/[test-template:testCheckout(java.lang.String)]";
+        List<String> invocations = new ArrayList<>();
+        Map<String, TestHistory.Entry> history = new HashMap<>();
+        for (int i = 1; i <= 4; i++) {
+            invocations.add(method + "/[test-template-invocation:#" + i + "]");
+            history.put(invocations.get(i - 1), entry(5000));
+        }
+
+        ShardFilter.Plan plan = new ShardFilter.Plan("1/2", List.of(), List.of(method), history);
+
+        assertTrue(plan.isTemplate(method));
+        assertEquals(2, invocations.stream().filter(invocation -> plan.shardOf(invocation) == 1).count(),
+                "One parameterized method should be spread over both shards");
+    }
+
+    @Test
+    void onlyInvocationsOfDiscoveredTemplatesArePacked() {
+        String method = CLASS + "/[test-template:testLogin(com.projects.tests.LoginTest$LoginScenario)]";
+        Map<String, TestHistory.Entry> history = new HashMap<>();
+        history.put(method + "/[test-template-invocation:#1]", entry(3000));
+        history.put(method + "/[test-template-invocation:#2]", entry(4000));
+        history.put(CLASS + "/[test-template:removed(int)]/[test-template-invocation:#1]", entry(9000));
+
+        assertEquals(Map.of(method + "/[test-template-invocation:#1]", 3000L, method + "/[test-template-invocation:#2]", 4000L),
+                ShardFilter.Plan.durations(List.of(), List.of(method), history));
+    }
+
+    @Test
+    void testsNoLongerDiscoveredTakeNoRoom() {
+        List<String> units = units(6);
+        Map<String, TestHistory.Entry> history = history(units);
+        history.put(CLASS + "/[method:deleted()]", entry(1_000_000));
+
+        assertEquals(units.size(), ShardFilter.Plan.durations(units, List.of(), history).size());
+        // With the deleted test packed, one shard would be full of it and hold none of the real tests
+        ShardFilter.Plan first = new ShardFilter.Plan("1/2", units, List.of(), history);
+        long inFirst = units.stream().filter(unit -> first.shardOf(unit) == 1).count();
+        assertTrue(inFirst > 0 && inFirst < units.size(), "Both shards should get real tests, shard 1 has " + inFirst);
+    }
+
+    @Test
+    void rejectsMalformedShard() {
+        assertThrows(IllegalArgumentException.class, () -> new ShardFilter.Plan("3", List.of(), List.of(), Map.of()));
+        assertThrows(IllegalArgumentException.class, () -> new ShardFilter.Plan("0/2", List.of(), List.of(), Map.of()));
+        assertThrows(IllegalArgumentException.class, () -> new ShardFilter.Plan("3/2", List.of(), List.of(), Map.of()));
+    }
+
+    private static List<ShardFilter.Plan> plans(int shards, List<String> units, Map<String, TestHistory.Entry> history) {
+        List<ShardFilter.Plan> plans = new ArrayList<>();
+        for (int i = 1; i <= shards; i++) {
+            plans.add(new ShardFilter.Plan(i + "/" + shards, units, List.of(), history));
+        }
+        return plans;
+    }
+
+    private static List<String> units(int count) {
+        List<String> units = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            units.add(CLASS + "/[method:test" + i + "()]");
+        }
+        return units;
+    }
+
+    // Durations 1 s, 2 s, ... in unit order
+    private static Map<String, TestHistory.Entry> history(List<String> units) {
+        Map<String, TestHistory.Entry> history = new HashMap<>();
+        for (int i = 0; i < units.size(); i++) {
+            history.put(units.get(i), entry((i + 1) * 1000L));
+        }
+        return history;
+    }
+
+    private static TestHistory.Entry entry(long durationMs) {
+        return new TestHistory.Entry("com.projects.tests.SampleTest", "test", durationMs, false);
+    }
+}
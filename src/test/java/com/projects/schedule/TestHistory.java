@@ -0,0 +1,135 @@
+package com.projects.schedule;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Duration and outcome of every test (each parameterized invocation separately) from
+ * previous runs, kept in -DtestHistory (default test-history.json in the working directory,
+ * outside target/ so it survives mvn clean). Read once when first used, merged with this
+ * run's results and written back when the run ends.
+ */
+public final class TestHistory {
+
+    private static final Logger log = LoggerFactory.getLogger(TestHistory.class);
+    private static final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final Path FILE = Paths.get(System.getProperty("testHistory", "test-history.json"));
+
+    private static final TestHistory instance = load();
+
+    private final Map<String, Entry> previousRuns;
+    private final Map<String, Entry> entries;
+
+    private TestHistory(Map<String, Entry> entries) {
+        this.previousRuns = Map.copyOf(entries);
+        this.entries = new ConcurrentHashMap<>(entries);
+    }
+
+    public static TestHistory get() {
+        return instance;
+    }
+
+    private static TestHistory load() {
+        if (!Files.exists(FILE)) {
+            return new TestHistory(Map.of());
+        }
+        try {
+            Map<String, Entry> entries = mapper.readValue(FILE.toFile(), new TypeReference<Map<String, Entry>>() {
+            });
+            log.info("Loaded history of {} tests from {}", entries.size(), FILE.toAbsolutePath());
+            return new TestHistory(entries);
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable test history {}: {}", FILE, e.getMessage());
+            return new TestHistory(Map.of());
+        }
+    }
+
+    /** Records one test; the duration is smoothed with the previous runs to damp one-off spikes. */
+    void record(String uniqueId, String className, String methodName, long durationMs, boolean failed) {
+        entries.merge(uniqueId, new Entry(className, methodName, durationMs, failed),
+                (previous, latest) -> new Entry(className, methodName,
+                        (previous.durationMs + latest.durationMs) / 2, failed));
+    }
+
+    void save() {
+        try {
+            Files.createDirectories(FILE.toAbsolutePath().getParent());
+            mapper.writeValue(FILE.toFile(), new TreeMap<>(entries));
+            log.info("Test history of {} tests written to {}", entries.size(), FILE.toAbsolutePath());
+        } catch (IOException e) {
+            log.warn("Could not write test history {}: {}", FILE, e.getMessage());
+        }
+    }
+
+    public Entry entry(String uniqueId) {
+        return entries.get(uniqueId);
+    }
+
+    /** The history as read at startup, unaffected by tests of the current run. */
+    public Map<String, Entry> previousRuns() {
+        return previousRuns;
+    }
+
+    /** Sum of the last known durations of the class's tests, -1 if it has never run. */
+    public long classDuration(String className) {
+        return entries.values().stream()
+                .filter(entry -> entry.className.equals(className))
+                .mapToLong(entry -> entry.durationMs)
+                .reduce(Long::sum)
+                .orElse(-1);
+    }
+
+    public boolean classFailed(String className) {
+        return entries.values().stream().anyMatch(entry -> entry.className.equals(className) && entry.failed);
+    }
+
+    /** Sum over all invocations of the method, -1 if it has never run. */
+    public long methodDuration(String className, String methodName) {
+        return entries.values().stream()
+                .filter(entry -> entry.className.equals(className) && entry.methodName.equals(methodName))
+                .mapToLong(entry -> entry.durationMs)
+                .reduce(Long::sum)
+                .orElse(-1);
+    }
+
+    public boolean methodFailed(String className, String methodName) {
+        return entries.values().stream().anyMatch(entry ->
+                entry.className.equals(className) && entry.methodName.equals(methodName) && entry.failed);
+    }
+
+    public static final class Entry {
+        private final String className;
+        private final String methodName;
+        private final long durationMs;
+        private final boolean failed;
+
+        @JsonCreator
+        public Entry(@JsonProperty("className") String className,
+                     @JsonProperty("methodName") String methodName,
+                     @JsonProperty("durationMs") long durationMs,
+                     @JsonProperty("failed") boolean failed) {
+            this.className = className;
+            this.methodName = methodName;
+            this.durationMs = durationMs;
+            this.failed = failed;
+        }
+
+        public String getClassName() { return className; }
+        public String getMethodName() { return methodName; }
+        public long getDurationMs() { return durationMs; }
+        public boolean isFailed() { return failed; }
+    }
+}
@@ -0,0 +1,36 @@
+package com.projects.schedule;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Times every test including its @BeforeEach/@AfterEach (browser setup is part of what a
+ * worker spends on it) and feeds {@link TestHistory}. Registered for all test classes through
+ * extension auto-detection (META-INF/services), so test classes need no annotation.
+ */
+public class TestHistoryRecorder implements BeforeEachCallback, AfterEachCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(TestHistoryRecorder.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        context.getStore(NAMESPACE).put("start", System.nanoTime());
+        // Written once, after every test in the run has finished
+        context.getRoot().getStore(NAMESPACE)
+                .getOrComputeIfAbsent(TestHistory.class, key -> (ExtensionContext.Store.CloseableResource) () -> TestHistory.get().save());
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        Long start = context.getStore(NAMESPACE).remove("start", Long.class);
+        if (start == null) {
+            return;
+        }
+        TestHistory.get().record(context.getUniqueId(),
+                context.getRequiredTestClass().getName(),
+                context.getRequiredTestMethod().getName(),
+                (System.nanoTime() - start) / 1_000_000,
+                context.getExecutionException().isPresent());
+    }
+}
@@ -0,0 +1,214 @@
+package com.projects.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Local stand-in for www.saucedemo.com so the suite can run without internet access.
+ * Serves the pages under src/test/resources/standin with the same selectors, cookie and
+ * storage keys as the real app. Pages other than login need the session cookie.
+ *
+ * Latency can be injected per endpoint, optionally only for one user, with
+ * -DstandIn.latency=path[@user]=millis,... e.g.
+ * -DstandIn.latency=/inventory.html@performance_glitch_user=5000
+ */
+public final class StandInServer {
+
+    private static final Logger log = LoggerFactory.getLogger(StandInServer.class);
+
+    private static final String SESSION_COOKIE = "session-username";
+    private static final String LOGIN_PATH = "/";
+    private static final String SCRIPT_PATH = "/static/app.js";
+    private static final Map<String, String> PAGES = Map.of(
+            LOGIN_PATH, "login.html",
+            "/inventory.html", "inventory.html",
+            "/inventory-item.html", "inventory-item.html",
+            "/cart.html", "cart.html",
+            "/checkout-step-one.html", "checkout-step-one.html",
+            "/checkout-step-two.html", "checkout-step-two.html",
+            "/checkout-complete.html", "checkout-complete.html"
+    );
+
+    private static StandInServer instance;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, byte[]> pages = new HashMap<>();
+    private final byte[] script;
+    private final List<LatencyRule> latencyRules;
+
+    private StandInServer(int port, List<LatencyRule> latencyRules) throws IOException {
+        this.latencyRules = latencyRules;
+
+        String header = resource("header.html");
+        PAGES.forEach((path, file) -> pages.put(path,
+                resource(file).replace("<!--header-->", header).getBytes(StandardCharsets.UTF_8)));
+        script = resource("app.js").getBytes(StandardCharsets.UTF_8);
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "stand-in-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    /** Starts the shared server once per JVM (-DstandIn.port, default any free port). */
+    public static synchronized StandInServer start() {
+        if (instance == null) {
+            int port = Integer.parseInt(System.getProperty("standIn.port", "0"));
+            List<LatencyRule> rules = LatencyRule.parse(System.getProperty("standIn.latency", ""));
+            try {
+                instance = new StandInServer(port, rules);
+            } catch (IOException e) {
+                throw new UncheckedIOException("❌ Failed to start the stand-in server", e);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(instance::stop, "stand-in-server-shutdown"));
+            log.info("Stand-in Swag Labs server started at {} with latency rules {}", instance.baseUrl(), rules);
+        }
+        return instance;
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            String user = sessionUser(exchange);
+            delay(path, user);
+
+            if (SCRIPT_PATH.equals(path)) {
+                send(exchange, 200, "application/javascript", script);
+                return;
+            }
+
+            byte[] page = pages.get(path);
+            if (page == null) {
+                send(exchange, 404, "text/plain", ("Not found: " + path).getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            if (!LOGIN_PATH.equals(path) && user == null) {
+                exchange.getResponseHeaders().add("Location",
+                        LOGIN_PATH + "?denied=" + URLEncoder.encode(path, StandardCharsets.UTF_8));
+                exchange.sendResponseHeaders(302, -1);
+                return;
+            }
+            send(exchange, 200, "text/html; charset=utf-8", page);
+        }
+    }
+
+    private void delay(String path, String user) {
+        long millis = 0;
+        for (LatencyRule rule : latencyRules) {
+            if (rule.matches(path, user)) {
+                millis = Math.max(millis, rule.millis);
+            }
+        }
+        if (millis > 0) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static String sessionUser(HttpExchange exchange) {
+        for (String header : exchange.getRequestHeaders().getOrDefault("Cookie", List.of())) {
+            for (String cookie : header.split(";")) {
+                String[] pair = cookie.trim().split("=", 2);
+                if (pair.length == 2 && SESSION_COOKIE.equals(pair[0]) && !pair[1].isEmpty()) {
+                    return pair[1];
+                }
+            }
+        }
+        return null;
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", contentType);
+        exchange.getResponseHeaders().add("Cache-Control", "no-store");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(body);
+        }
+    }
+
+    private static String resource(String name) {
+        try (InputStream is = StandInServer.class.getResourceAsStream("/standin/" + name)) {
+            if (is == null) {
+                throw new IllegalStateException("❌ standin/" + name + " not found in resources");
+            }
+            return new String(is.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("❌ Failed to read standin/" + name, e);
+        }
+    }
+
+    // "path[@user]=millis"
+    static final class LatencyRule {
+        final String path;
+        final String user;
+        final long millis;
+
+        LatencyRule(String path, String user, long millis) {
+            this.path = path;
+            this.user = user;
+            this.millis = millis;
+        }
+
+        boolean matches(String requestPath, String requestUser) {
+            return path.equals(requestPath) && (user == null || user.equals(requestUser));
+        }
+
+        static List<LatencyRule> parse(String spec) {
+            List<LatencyRule> rules = new ArrayList<>();
+            for (String entry : spec.split(",")) {
+                if (entry.isBlank()) {
+                    continue;
+                }
+                String[] target = entry.trim().split("=", 2);
+                if (target.length != 2) {
+                    throw new IllegalArgumentException("❌ Bad standIn.latency entry '" + entry + "', expected path[@user]=millis");
+                }
+                String[] pathAndUser = target[0].split("@", 2);
+                rules.add(new LatencyRule(pathAndUser[0],
+                        pathAndUser.length == 2 ? pathAndUser[1] : null,
+                        Long.parseLong(target[1].trim())));
+            }
+            return rules;
+        }
+
+        @Override
+        public String toString() {
+            return path + (user != null ? "@" + user : "") + "=" + millis + "ms";
+        }
+    }
+}
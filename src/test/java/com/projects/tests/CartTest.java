@@ -1,13 +1,14 @@
 package com.projects.tests;
 
-import com.codeborne.selenide.junit5.ScreenShooterExtension;
+import com.projects.base.AuthenticatedSession;
 import com.projects.base.BaseTest;
 import com.projects.pages.CartPage;
 import com.projects.pages.LoginPage;
+import com.projects.schedule.DependsOn;
 import com.projects.util.TestDataLoader;
 import com.projects.util.User;
 import io.qameta.allure.*;
-import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.slf4j.Logger;
@@ -21,11 +22,15 @@ import static org.junit.jupiter.api.Assertions.*;
 
 @Epic("Swag Labs UI Tests")
 @Feature("Cart Functionality")
-@ExtendWith({ScreenShooterExtension.class})
+@DependsOn("login")
 public class CartTest extends BaseTest {
 
     private static final Logger log = LoggerFactory.getLogger(CartTest.class);
 
+    // Logged in once per worker; parameterized invocations only reset the cart
+    @RegisterExtension
+    static final AuthenticatedSession session = AuthenticatedSession.as("standard_user");
+
     // --------------------- PARAMETERIZED TESTS ---------------------
 
     @ParameterizedTest(name = "Add and Remove Product: {0}")
@@ -34,12 +39,9 @@ public class CartTest extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     @Description("Verify adding and removing different products updates the cart correctly")
     void testAddAndRemoveItemsParameterized(String productName) {
-        User user = TestDataLoader.getUser("standard_user");
         log.info("Starting parameterized test: Add and Remove Product '{}'", productName);
 
-        LoginPage loginPage = new LoginPage();
-        loginPage.openLogin();
-        loginPage.loginAs(user);
+        session.enter();
 
         CartPage cartPage = new CartPage();
         cartPage.addItemToCart(productName);
@@ -57,12 +59,9 @@ public class CartTest extends BaseTest {
     @Severity(SeverityLevel.NORMAL)
     @Description("Verify user can add multiple items and cart badge reflects correct count")
     void testAddMultipleItemsParameterized(String product1, String product2) {
-        User user = TestDataLoader.getUser("standard_user");
         log.info("Starting parameterized test: Add Multiple Products '{}', '{}'", product1, product2);
 
-        LoginPage loginPage = new LoginPage();
-        loginPage.openLogin();
-        loginPage.loginAs(user);
+        session.enter();
 
         CartPage cartPage = new CartPage();
         cartPage.addItemToCart(product1);
@@ -96,8 +95,7 @@ public class CartTest extends BaseTest {
         log.info("Starting test: Add Same Item Twice");
 
         LoginPage loginPage = new LoginPage();
-        loginPage.openLogin();
-        loginPage.loginAs(user);
+        loginPage.loginFast(user);
 
         CartPage cartPage = new CartPage();
         cartPage.addItemToCart("Sauce Labs Backpack");
@@ -117,8 +115,7 @@ public class CartTest extends BaseTest {
         log.info("Starting test: Remove Nonexistent Item");
 
         LoginPage loginPage = new LoginPage();
-        loginPage.openLogin();
-        loginPage.loginAs(user);
+        loginPage.loginFast(user);
 
         CartPage cartPage = new CartPage();
         cartPage.removeItemFromCart("Sauce Labs Bolt T-Shirt");
@@ -137,8 +134,7 @@ public class CartTest extends BaseTest {
         log.info("Starting test: Cart Persistence After Logout");
 
         LoginPage loginPage = new LoginPage();
-        loginPage.openLogin();
-        loginPage.loginAs(user);
+        loginPage.loginFast(user);
 
         CartPage cartPage = new CartPage();
         cartPage.addItemToCart("Sauce Labs Backpack");
@@ -0,0 +1,48 @@
+package com.projects.tests;
+
+import com.projects.dom.DomSnapshots;
+import com.projects.dom.OfflinePage;
+import com.projects.pages.InventorySnapshot;
+import com.projects.pages.PageProbe;
+import io.qameta.allure.*;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Needs no browser: record once with -DdomSnapshots=record, then
+// mvn test -Dtest=DomReplayTest replays the page objects against the stored pages
+@Epic("Swag Labs UI Tests")
+@Feature("Offline Page Objects")
+@EnabledIf("recorded")
+public class DomReplayTest {
+
+    static boolean recorded() {
+        return DomSnapshots.hasRecordings();
+    }
+
+    static List<DomSnapshots.Snapshot> snapshots() {
+        return DomSnapshots.list();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("snapshots")
+    @Story("Replay Recorded Pages")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Page-object queries answer the same on the recorded HTML as they did in the browser")
+    void pageObjectsAnswerAsRecorded(DomSnapshots.Snapshot snapshot) {
+        OfflinePage.use(snapshot.load());
+        InventorySnapshot.invalidate();
+        try {
+            Map<String, Object> answers = PageProbe.answers();
+            assertEquals(snapshot.getAnswers(), answers, "Offline answers for " + snapshot.getFile());
+        } finally {
+            OfflinePage.clear();
+            InventorySnapshot.invalidate();
+        }
+    }
+}
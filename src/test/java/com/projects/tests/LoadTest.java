@@ -0,0 +1,34 @@
+package com.projects.tests;
+
+import com.codeborne.selenide.Configuration;
+import com.projects.base.BaseTest;
+import com.projects.load.LoadRunner;
+import io.qameta.allure.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Epic("Swag Labs UI Tests")
+@Feature("Load")
+@EnabledIfSystemProperty(named = "load", matches = "true")
+public class LoadTest extends BaseTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTest.class);
+
+    // mvn test -Dtest=LoadTest -Dload=true [-DstandIn=true] [-Dload.sessions=10 -Dload.users=standard_user,performance_glitch_user]
+    @Test
+    @Story("Concurrent Purchase Journeys")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Run the full purchase journey from many concurrent sessions and report per-step latency")
+    void purchaseJourneyUnderLoad() throws InterruptedException {
+        log.info("Starting load run against {}", Configuration.baseUrl);
+
+        long failedJourneys = new LoadRunner().run();
+
+        assertEquals(0, failedJourneys, "All journeys should complete under load");
+        log.info("Load run completed");
+    }
+}
@@ -1,13 +1,13 @@
 package com.projects.tests;
 
-import com.codeborne.selenide.junit5.ScreenShooterExtension;
 import com.projects.base.BaseTest;
 import com.projects.pages.LoginPage;
+import com.projects.perf.FrontEndTimings;
+import com.projects.schedule.Proves;
 import com.projects.util.TestDataLoader;
 import com.projects.util.User;
 import io.qameta.allure.*;
 import org.junit.jupiter.api.DisplayName;
-import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.slf4j.Logger;
@@ -19,12 +19,16 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @Epic("Swag Labs UI Tests")
 @Feature("Login Functionality")
-@ExtendWith({ScreenShooterExtension.class})
 public class LoginTest extends BaseTest {
 
     private static final Logger log = LoggerFactory.getLogger(LoginTest.class);
     private final LoginPage loginPage = new LoginPage();
 
+    // Enforced with -DfrontEndTimings=true -DfrontEndBudgets=true, see FrontEndTimings.
+    // The glitch user is slow on purpose: its budget only catches it getting slower still
+    private static final long INVENTORY_BUDGET_MS = 1500;
+    private static final long GLITCH_INVENTORY_BUDGET_MS = 8000;
+
     // Provide login scenarios for the parameterized test
     static Stream<LoginScenario> loginScenarios() {
         return Stream.of(
@@ -43,6 +47,7 @@ public class LoginTest extends BaseTest {
     @DisplayName("Parameterized Login Test")
     @Severity(SeverityLevel.BLOCKER)
     @Story("Login Scenarios")
+    @Proves(value = "login", when = "Valid Login")
     void testLogin(LoginScenario scenario) {
         User user = TestDataLoader.getUser(scenario.username);
         String expectedError = scenario.expectedErrorKey != null
@@ -58,6 +63,8 @@ public class LoginTest extends BaseTest {
             loginPage.shouldSeeProductsPage();
             assertTrue(loginPage.isProductsPageDisplayed(),
                     "Products page should be visible for scenario: " + scenario.displayName);
+            FrontEndTimings.assertWithin("inventory", FrontEndTimings.Metric.INTERACTIVE,
+                    scenario.username.equals("performance_glitch_user") ? GLITCH_INVENTORY_BUDGET_MS : INVENTORY_BUDGET_MS);
         } else {
             log.info("Verifying error message: {}", expectedError);
             loginPage.shouldSeeError(expectedError);
@@ -1,9 +1,12 @@
 package com.projects.tests;
 
+import com.projects.base.AuthenticatedSession;
+import com.projects.base.BaseTest;
 import com.projects.pages.*;
-import com.projects.util.TestDataLoader;
-import com.projects.util.User;
+import com.projects.perf.RoundTripBudget;
+import com.projects.schedule.DependsOn;
 import io.qameta.allure.*;
+import org.junit.jupiter.api.extension.RegisterExtension;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.slf4j.Logger;
@@ -18,11 +21,19 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @Epic("Swag Labs UI Tests")
 @Feature("Products")
-public class ProductsTest {
+@DependsOn("login")
+// About 15 driver commands for the longest scenario (removeFromCart): 5 to reset the session
+// (cookie, storage, open, find + isDisplayed), one snapshot script per read, ~4 per click.
+// A regression back to per-item lookups blows well past this
+@RoundTripBudget(30)
+public class ProductsTest extends BaseTest {
 
     private static final Logger log = LoggerFactory.getLogger(ProductsTest.class);
 
-    private final LoginPage loginPage = new LoginPage();
+    // Logged in once per worker; invocations only reset the cart and return to the inventory
+    @RegisterExtension
+    static final AuthenticatedSession session = AuthenticatedSession.as("standard_user");
+
     private final ProductsPage productsPage = new ProductsPage();
     private final ProductDetailsPage detailsPage = new ProductDetailsPage();
     private final CartPage cartPage = new CartPage();
@@ -48,11 +59,8 @@ public class ProductsTest {
     @Severity(SeverityLevel.CRITICAL)
     @Description("Run multiple product-related operations dynamically")
     void testProductScenarios(ProductScenario scenario) {
-        User user = TestDataLoader.getUser("standard_user");
-
-        log.info("Starting product test for user {}", user.getUsername());
-        loginPage.openLogin();
-        loginPage.loginAs(user);
+        log.info("Starting product test for product {}", scenario.productName);
+        session.enter();
 
         String product = scenario.productName;
 
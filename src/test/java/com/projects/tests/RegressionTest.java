@@ -2,11 +2,10 @@ package com.projects.tests;
 
 import com.projects.base.BaseTest;
 import com.projects.pages.*;
+import com.projects.schedule.DependsOn;
 import com.projects.util.*;
-import com.codeborne.selenide.junit5.ScreenShooterExtension;
 import io.qameta.allure.*;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -14,7 +13,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @Epic("Swag Labs UI Tests")
 @Feature("Regression Suite")
-@ExtendWith({ScreenShooterExtension.class})
+@DependsOn("login")
 public class RegressionTest extends BaseTest {
 
     private static final Logger log = LoggerFactory.getLogger(RegressionTest.class);
@@ -33,11 +32,8 @@ public class RegressionTest extends BaseTest {
 
         // Login
         LoginPage login = new LoginPage();
-        log.info("Opening login page");
-        login.openLogin();
-
         log.info("Logging in as user: {}", user.getUsername());
-        login.loginAs(user);
+        login.loginFast(user);
 
         assertTrue(login.isProductsPageDisplayed(),
                 "User should be redirected to Products page after login");
@@ -3,17 +3,15 @@ package com.projects.tests;
 import com.projects.base.BaseTest;
 import com.projects.pages.LoginPage;
 import com.projects.pages.ProductsPage;
+import com.projects.schedule.Proves;
 import com.projects.util.TestDataLoader;
 import com.projects.util.User;
-import com.codeborne.selenide.junit5.ScreenShooterExtension;
-import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-@ExtendWith({ScreenShooterExtension.class})
 public class SmokeTest extends BaseTest {
 
     private static final Logger log = LoggerFactory.getLogger(SmokeTest.class);
@@ -22,6 +20,7 @@ public class SmokeTest extends BaseTest {
     private final ProductsPage products = new ProductsPage();
 
     @Test
+    @Proves("login")
     public void loginAndSeeProducts() {
         log.info("Starting Smoke Test: login and verify products page");
 
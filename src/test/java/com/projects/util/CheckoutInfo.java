@@ -1,17 +1,25 @@
 package com.projects.util;
 
 public class CheckoutInfo {
-    private String firstName;
-    private String lastName;
-    private String postalCode;
+    private final String firstName;
+    private final String lastName;
+    private final String postalCode;
+    private final String errorKey;
 
     public CheckoutInfo(String firstName, String lastName, String postalCode) {
+        this(firstName, lastName, postalCode, null);
+    }
+
+    public CheckoutInfo(String firstName, String lastName, String postalCode, String errorKey) {
         this.firstName = firstName;
         this.lastName = lastName;
         this.postalCode = postalCode;
+        this.errorKey = errorKey;
     }
 
     public String getFirstName() { return firstName; }
     public String getLastName() { return lastName; }
     public String getPostalCode() { return postalCode; }
+    // Key in "errors" of the message the form answers with, or null if the order goes through
+    public String getErrorKey() { return errorKey; }
 }
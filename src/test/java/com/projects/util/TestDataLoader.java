@@ -4,41 +4,167 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
+/**
+ * Test data from testdata/testdata.json, parsed once into immutable, typed maps.
+ * Lookups are hash lookups on shared objects, safe to use from parallel test threads.
+ * Unknown keys and incomplete entries fail with a message naming the section and key.
+ */
 public class TestDataLoader {
-    private static JsonNode rootNode;
+
+    private static final String FILE = "testdata/testdata.json";
+
+    private static final Map<String, User> users;
+    private static final Map<String, String> products;
+    private static final Map<String, Integer> productIds;
+    private static final Map<String, CheckoutInfo> checkoutInfos;
+    private static final Map<String, String> errors;
+    private static final String sessionCookie;
+    private static final String sessionPassword;
+    private static final Set<String> sessionUsernames;
 
     static {
-        try (InputStream is = TestDataLoader.class.getResourceAsStream("/testdata/testdata.json")) {
+        JsonNode rootNode;
+        try (InputStream is = TestDataLoader.class.getResourceAsStream("/" + FILE)) {
             if (is == null) {
-                throw new IllegalStateException("❌ testdata/testdata.json not found in resources");
+                throw new IllegalStateException("❌ " + FILE + " not found in resources");
             }
-            ObjectMapper mapper = new ObjectMapper();
-            rootNode = mapper.readTree(is);
+            rootNode = new ObjectMapper().readTree(is);
+        } catch (IllegalStateException e) {
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException("❌ Failed to load testdata.json", e);
         }
+
+        users = index(rootNode, "users", node -> new User(
+                text(node, "users", "username"),
+                text(node, "users", "password"),
+                node.path("loginError").asText(null)));
+        products = index(rootNode, "products", JsonNode::asText);
+        productIds = index(rootNode, "productIds", node -> {
+            if (!node.isInt()) {
+                throw new IllegalStateException("❌ productIds entries in " + FILE + " must be integers, got " + node);
+            }
+            return node.asInt();
+        });
+        checkoutInfos = index(rootNode, "checkout", node -> new CheckoutInfo(
+                text(node, "checkout", "firstName"),
+                text(node, "checkout", "lastName"),
+                text(node, "checkout", "postalCode"),
+                node.path("error").asText(null)));
+        errors = index(rootNode, "errors", JsonNode::asText);
+        users.forEach((key, user) -> requireError("users", key, user.getLoginErrorKey()));
+        checkoutInfos.forEach((key, info) -> requireError("checkout", key, info.getErrorKey()));
+
+        JsonNode session = rootNode.path("session");
+        sessionCookie = session.path("cookie").asText(null);
+        sessionPassword = session.path("password").asText(null);
+        sessionUsernames = StreamSupport.stream(session.path("usernames").spliterator(), false)
+                .map(JsonNode::asText)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /** Keys of a section ("users", "products", "productIds", "checkout", "errors"), sorted. */
+    public static List<String> getKeys(String section) {
+        Map<String, ?> entries = switch (section) {
+            case "users" -> users;
+            case "products" -> products;
+            case "productIds" -> productIds;
+            case "checkout" -> checkoutInfos;
+            case "errors" -> errors;
+            default -> throw new IllegalArgumentException("❌ No section '" + section + "' in " + FILE);
+        };
+        return entries.keySet().stream().sorted().collect(Collectors.toUnmodifiableList());
     }
 
     public static User getUser(String key) {
-        JsonNode node = rootNode.path("users").path(key);
-        return new User(node.get("username").asText(), node.get("password").asText());
+        return lookup(users, "users", key);
     }
 
     public static String getProduct(String key) {
-        return rootNode.path("products").path(key).asText();
+        return lookup(products, "products", key);
+    }
+
+    /** Every product name, sorted. */
+    public static List<String> getProductNames() {
+        return products.values().stream().sorted().collect(Collectors.toUnmodifiableList());
+    }
+
+    public static int getProductId(String key) {
+        return lookup(productIds, "productIds", key);
     }
 
     public static CheckoutInfo getCheckoutInfo(String type) {
-        JsonNode node = rootNode.path("checkout").path(type);
-        return new CheckoutInfo(
-                node.get("firstName").asText(),
-                node.get("lastName").asText(),
-                node.get("postalCode").asText()
-        );
+        return lookup(checkoutInfos, "checkout", type);
     }
 
     public static String getErrorMessage(String key) {
-        return rootNode.path("errors").path(key).asText();
+        return lookup(errors, "errors", key);
+    }
+
+    /** Every expected error message, sorted. */
+    public static List<String> getErrorMessages() {
+        return errors.values().stream().sorted().collect(Collectors.toUnmodifiableList());
+    }
+
+    public static String getSessionCookie() {
+        if (sessionCookie == null) {
+            throw new IllegalStateException("❌ No session.cookie in " + FILE);
+        }
+        return sessionCookie;
+    }
+
+    // Only credentials the app would accept may skip the login form
+    public static boolean canInjectSession(User user) {
+        return sessionPassword != null
+                && sessionPassword.equals(user.getPassword())
+                && sessionUsernames.contains(user.getUsername());
+    }
+
+    private static <T> Map<String, T> index(JsonNode rootNode, String section, Function<JsonNode, T> parser) {
+        JsonNode sectionNode = rootNode.path(section);
+        Map<String, T> entries = new HashMap<>(Math.max(16, sectionNode.size() * 2));
+        Iterator<Map.Entry<String, JsonNode>> fields = sectionNode.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            try {
+                entries.put(field.getKey(), parser.apply(field.getValue()));
+            } catch (IllegalStateException e) {
+                throw new IllegalStateException(e.getMessage() + " (entry '" + field.getKey() + "')", e);
+            }
+        }
+        return Map.copyOf(entries);
+    }
+
+    private static void requireError(String section, String key, String errorKey) {
+        if (errorKey != null && !errors.containsKey(errorKey)) {
+            throw new IllegalStateException("❌ " + section + " entry '" + key + "' of " + FILE
+                    + " names error '" + errorKey + "', which is not in errors");
+        }
+    }
+
+    private static String text(JsonNode node, String section, String field) {
+        JsonNode value = node.get(field);
+        if (value == null || value.isNull()) {
+            throw new IllegalStateException("❌ Missing '" + field + "' in " + section + " of " + FILE);
+        }
+        return value.asText();
+    }
+
+    private static <T> T lookup(Map<String, T> entries, String section, String key) {
+        T value = entries.get(key);
+        if (value == null) {
+            throw new IllegalArgumentException("❌ No entry '" + key + "' in " + section + " of " + FILE
+                    + ", known keys: " + (entries.size() <= 20 ? entries.keySet() : entries.size() + " entries"));
+        }
+        return value;
     }
 }
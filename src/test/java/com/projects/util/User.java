@@ -3,10 +3,16 @@ package com.projects.util;
 public class User {
     private final String username;
     private final String password;
+    private final String loginErrorKey;
 
     public User(String username, String password) {
+        this(username, password, null);
+    }
+
+    public User(String username, String password, String loginErrorKey) {
         this.username = username;
         this.password = password;
+        this.loginErrorKey = loginErrorKey;
     }
 
     public String getUsername() {
@@ -16,4 +22,9 @@ public class User {
     public String getPassword() {
         return password;
     }
+
+    // Key in "errors" of the message the login form answers with, or null if the app lets the user in
+    public String getLoginErrorKey() {
+        return loginErrorKey;
+    }
 }
@@ -0,0 +1,245 @@
+// Offline stand-in for the Swag Labs front end, served by StandInServer.
+// Same storage keys and selectors as the real app: the session lives in the
+// "session-username" cookie and the cart in localStorage "cart-contents".
+
+var PRODUCTS = [
+    {id: 4, name: "Sauce Labs Backpack", price: "29.99",
+        desc: "carry.allTheThings() with the sleek, streamlined Sly Pack."},
+    {id: 0, name: "Sauce Labs Bike Light", price: "9.99",
+        desc: "A red light isn't the desired state in testing but it sure helps when riding your bike at night."},
+    {id: 1, name: "Sauce Labs Bolt T-Shirt", price: "15.99",
+        desc: "Get your testing superhero on with the Sauce Labs bolt T-shirt."},
+    {id: 5, name: "Sauce Labs Fleece Jacket", price: "49.99",
+        desc: "It's not every day that you come across a midweight quarter-zip fleece jacket."},
+    {id: 2, name: "Sauce Labs Onesie", price: "7.99",
+        desc: "Rib snap infant onesie for the junior automation engineer in development."},
+    {id: 3, name: "Test.allTheThings() T-Shirt (Red)", price: "15.99",
+        desc: "This classic Sauce Labs t-shirt is perfect to wear when cozying up to your keyboard to automate a few tests."}
+];
+
+var USERS = ["standard_user", "locked_out_user", "problem_user", "performance_glitch_user", "error_user", "visual_user"];
+var PASSWORD = "secret_sauce";
+var SESSION_COOKIE = "session-username";
+var CART_KEY = "cart-contents";
+
+// ----------------------- state -----------------------
+
+function product(id) {
+    return PRODUCTS.filter(function (p) { return p.id === id; })[0];
+}
+
+function slug(name) {
+    return name.toLowerCase().replace(/[^a-z0-9]+/g, "-").replace(/^-|-$/g, "");
+}
+
+function readCart() {
+    try {
+        return JSON.parse(localStorage.getItem(CART_KEY)) || [];
+    } catch (e) {
+        return [];
+    }
+}
+
+function writeCart(ids) {
+    if (ids.length) {
+        localStorage.setItem(CART_KEY, JSON.stringify(ids));
+    } else {
+        localStorage.removeItem(CART_KEY);
+    }
+    renderBadge();
+}
+
+function inCart(id) {
+    return readCart().indexOf(id) >= 0;
+}
+
+function toggleCart(id) {
+    var ids = readCart();
+    writeCart(inCart(id) ? ids.filter(function (x) { return x !== id; }) : ids.concat([id]));
+}
+
+// ----------------------- header -----------------------
+
+function renderBadge() {
+    var link = document.querySelector("#shopping_cart_container a");
+    if (!link) {
+        return;
+    }
+    var badge = link.querySelector(".shopping_cart_badge");
+    var count = readCart().length;
+    if (count === 0) {
+        if (badge) {
+            link.removeChild(badge);
+        }
+        return;
+    }
+    if (!badge) {
+        badge = document.createElement("span");
+        badge.className = "shopping_cart_badge";
+        link.appendChild(badge);
+    }
+    badge.textContent = String(count);
+}
+
+function toggleMenu() {
+    var menu = document.querySelector(".bm-menu");
+    menu.style.display = menu.style.display === "none" ? "block" : "none";
+}
+
+function logout() {
+    document.cookie = SESSION_COOKIE + "=; path=/; expires=Thu, 01 Jan 1970 00:00:00 GMT";
+    localStorage.removeItem(CART_KEY);
+    location.href = "/";
+}
+
+// ----------------------- login -----------------------
+
+function showError(message) {
+    var container = document.querySelector(".error-message-container");
+    container.className = "error-message-container error";
+    container.innerHTML = "";
+    var h3 = document.createElement("h3");
+    h3.setAttribute("data-test", "error");
+    h3.textContent = message;
+    container.appendChild(h3);
+}
+
+function renderLogin() {
+    var denied = new URLSearchParams(location.search).get("denied");
+    if (denied) {
+        showError("Epic sadface: You can only access '" + denied + "' when you are logged in.");
+    }
+}
+
+function login(event) {
+    event.preventDefault();
+    var username = document.getElementById("user-name").value;
+    var password = document.getElementById("password").value;
+
+    var error = !username ? "Epic sadface: Username is required"
+        : !password ? "Epic sadface: Password is required"
+        : USERS.indexOf(username) < 0 || password !== PASSWORD
+            ? "Epic sadface: Username and password do not match any user in this service"
+        : username === "locked_out_user" ? "Epic sadface: Sorry, this user has been locked out."
+        : null;
+
+    if (error) {
+        showError(error);
+        return;
+    }
+    document.cookie = SESSION_COOKIE + "=" + username + "; path=/";
+    location.href = "/inventory.html";
+}
+
+// ----------------------- inventory -----------------------
+
+function cartButton(p, extraClass) {
+    var button = document.createElement("button");
+    function sync() {
+        var added = inCart(p.id);
+        button.textContent = added ? "Remove" : "Add to cart";
+        button.id = (added ? "remove-" : "add-to-cart-") + slug(p.name);
+        button.className = "btn btn_small " + extraClass + " " + (added ? "btn_secondary" : "btn_primary");
+    }
+    button.onclick = function () {
+        toggleCart(p.id);
+        sync();
+    };
+    sync();
+    return button;
+}
+
+function renderInventory() {
+    var list = document.querySelector(".inventory_list");
+    PRODUCTS.forEach(function (p) {
+        var item = document.createElement("div");
+        item.className = "inventory_item";
+        item.innerHTML =
+            '<div class="inventory_item_description">' +
+            '<a href="/inventory-item.html?id=' + p.id + '"><div class="inventory_item_name"></div></a>' +
+            '<div class="inventory_item_desc"></div>' +
+            '<div class="pricebar"><div class="inventory_item_price"></div></div>' +
+            '</div>';
+        item.querySelector(".inventory_item_name").textContent = p.name;
+        item.querySelector(".inventory_item_desc").textContent = p.desc;
+        item.querySelector(".inventory_item_price").textContent = "$" + p.price;
+        item.querySelector(".pricebar").appendChild(cartButton(p, "btn_inventory"));
+        list.appendChild(item);
+    });
+    renderBadge();
+}
+
+function renderDetails() {
+    var p = product(Number(new URLSearchParams(location.search).get("id")));
+    if (p) {
+        document.querySelector(".inventory_details_name").textContent = p.name;
+        document.querySelector(".inventory_details_desc").textContent = p.desc;
+        document.querySelector(".inventory_details_price").textContent = "$" + p.price;
+        document.querySelector(".inventory_details").appendChild(cartButton(p, "btn_inventory"));
+    }
+    renderBadge();
+}
+
+// ----------------------- cart & checkout -----------------------
+
+function cartItem(p, removable) {
+    var item = document.createElement("div");
+    item.className = "cart_item";
+    item.innerHTML =
+        '<div class="cart_quantity">1</div>' +
+        '<div class="cart_item_label">' +
+        '<div class="inventory_item_name"></div>' +
+        '<div class="inventory_item_price"></div>' +
+        '</div>';
+    item.querySelector(".inventory_item_name").textContent = p.name;
+    item.querySelector(".inventory_item_price").textContent = "$" + p.price;
+    if (removable) {
+        var button = document.createElement("button");
+        button.className = "btn btn_secondary btn_small cart_button";
+        button.id = "remove-" + slug(p.name);
+        button.textContent = "Remove";
+        button.onclick = function () {
+            toggleCart(p.id);
+            item.parentNode.removeChild(item);
+        };
+        item.querySelector(".cart_item_label").appendChild(button);
+    }
+    return item;
+}
+
+function renderCart() {
+    var list = document.querySelector(".cart_list");
+    readCart().map(product).filter(Boolean).forEach(function (p) {
+        list.appendChild(cartItem(p, true));
+    });
+    renderBadge();
+}
+
+function continueCheckout(event) {
+    event.preventDefault();
+    var error = !document.getElementById("first-name").value ? "Error: First Name is required"
+        : !document.getElementById("last-name").value ? "Error: Last Name is required"
+        : !document.getElementById("postal-code").value ? "Error: Postal Code is required"
+        : null;
+    if (error) {
+        showError(error);
+        return;
+    }
+    location.href = "/checkout-step-two.html";
+}
+
+function renderSummary() {
+    var list = document.querySelector(".cart_list");
+    var total = 0;
+    readCart().map(product).filter(Boolean).forEach(function (p) {
+        list.appendChild(cartItem(p, false));
+        total += Number(p.price);
+    });
+    document.querySelector(".summary_subtotal_label").textContent = "Item total: $" + total.toFixed(2);
+    renderBadge();
+}
+
+function finishCheckout() {
+    writeCart([]);
+    location.href = "/checkout-complete.html";
+}